@@ -0,0 +1,53 @@
+package com.cms.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Async Configuration - Executors for background work.
+ * 
+ * Notifications are handed to notificationExecutor so SMTP latency never
+ * blocks a request or the SLA scan. In virtual-thread mode each email gets
+ * its own virtual thread and submission never waits; MailDispatcher bounds
+ * the number of concurrent SMTP sends.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Configuration
+@EnableAsync
+@Slf4j
+public class AsyncConfig {
+
+    @Value("${cms.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${cms.notifications.smtp-concurrency:8}")
+    private int smtpConcurrency;
+
+    @Bean
+    public AsyncTaskExecutor notificationExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("notify-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("notify-");
+        executor.setCorePoolSize(smtpConcurrency);
+        executor.setMaxPoolSize(smtpConcurrency);
+        executor.setQueueCapacity(10_000);
+        // A full queue drops the email like any other send failure instead of
+        // throwing into the caller, which would roll back e.g. the SLA scan
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.error("Notification queue full ({} waiting), dropping email", pool.getQueue().size()));
+        return executor;
+    }
+}
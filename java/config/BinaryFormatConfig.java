@@ -0,0 +1,81 @@
+package com.cms.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary Format Configuration - CBOR and Smile content negotiation.
+ * 
+ * Internal integrations can send Accept: application/cbor or
+ * application/x-jackson-smile to any endpoint and get the same DTOs in a
+ * compact binary encoding. JSON stays the default. Both binary mappers
+ * reuse the application's Jackson settings and write dates as numeric
+ * timestamps. Smile also back-references repeated names and short string
+ * values, so the enum strings that repeat in list responses are written
+ * once per response.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnClass({CBORFactory.class, SmileFactory.class})
+@ConditionalOnProperty(name = "cms.api.binary-formats.enabled", havingValue = "true", matchIfMissing = true)
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        ObjectMapper cborMapper = objectMapperBuilder.build()
+                .copyWith(new CBORFactory())
+                .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        ObjectMapper smileMapper = objectMapperBuilder.build()
+                .copyWith(smileFactory)
+                .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        replaceOrAppend(converters, MappingJackson2CborHttpMessageConverter.class,
+                new MappingJackson2CborHttpMessageConverter(cborMapper));
+        replaceOrAppend(converters, MappingJackson2SmileHttpMessageConverter.class,
+                new MappingJackson2SmileHttpMessageConverter(smileMapper));
+    }
+
+    // Spring registers default CBOR and Smile converters when the dataformats are on
+    // the classpath; those would win negotiation, so ours take their place. Otherwise
+    // ours are appended after JSON, so clients without an explicit Accept still get JSON.
+    private static void replaceOrAppend(List<HttpMessageConverter<?>> converters,
+            Class<?> type, HttpMessageConverter<?> converter) {
+        boolean replaced = false;
+        for (int i = 0; i < converters.size(); i++) {
+            if (type.isInstance(converters.get(i))) {
+                converters.set(i, converter);
+                replaced = true;
+            }
+        }
+        if (!replaced) {
+            converters.add(converter);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.cms.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Compression Configuration - Gzip for large API responses.
+ * 
+ * List pages can carry hundreds of long descriptions. Text bodies at or
+ * above cms.compression.min-response-size are gzipped by the servlet
+ * container when the client accepts it, including streamed pages and
+ * exports. Server-Sent Events are left uncompressed so each event is
+ * flushed immediately.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "cms.compression.enabled", havingValue = "true", matchIfMissing = true)
+public class CompressionConfig {
+
+    private static final String[] COMPRESSIBLE_TYPES = {
+            "application/json",
+            "application/x-ndjson",
+            "application/cbor",
+            "application/x-jackson-smile",
+            "text/csv",
+            "text/plain"
+    };
+
+    @Bean
+    public WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> compressionCustomizer(
+            @Value("${cms.compression.min-response-size:2KB}") DataSize minResponseSize) {
+        return factory -> {
+            Compression compression = new Compression();
+            compression.setEnabled(true);
+            compression.setMimeTypes(COMPRESSIBLE_TYPES);
+            compression.setMinResponseSize(minResponseSize);
+            factory.setCompression(compression);
+            log.info("Response compression enabled for bodies >= {}", minResponseSize);
+        };
+    }
+}
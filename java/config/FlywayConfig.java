@@ -0,0 +1,28 @@
+package com.cms.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Flyway Configuration - Versioned schema migrations.
+ * 
+ * Migrations live in db/migration. V1 creates the base schema on a fresh
+ * database. Databases created before Flyway was introduced are baselined
+ * at version 0, so V1 onwards applies to them too; V1 only uses
+ * IF NOT EXISTS and leaves their existing tables alone.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer flywayBaselineCustomizer() {
+        return configuration -> configuration
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+    }
+}
@@ -0,0 +1,29 @@
+package com.cms.config;
+
+import java.lang.annotation.*;
+
+/**
+ * Query Budget - Declares the maximum Hibernate activity of a controller method.
+ * 
+ * Checked by QueryStatisticsFilter after the request completes, which logs
+ * violations. When cms.query-stats.enforce-budgets is enabled (test mode)
+ * QueryBudgetAdvice also checks it before the response body is written and
+ * fails the request.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    // Maximum number of JDBC statements
+    int statements();
+
+    // Maximum number of entity loads (-1 for unlimited)
+    int entityLoads() default -1;
+
+    // Maximum number of lazy collection initializations (-1 for unlimited)
+    int collectionFetches() default -1;
+}
@@ -0,0 +1,52 @@
+package com.cms.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Query Budget Advice - Fails budgeted requests before the body is written.
+ * 
+ * When cms.query-stats.enforce-budgets is enabled (test mode), the
+ * @QueryBudget of the handler is checked against the statistics gathered
+ * so far just before the response body is serialized. The response is not
+ * committed yet, so a violation turns into an error response instead of
+ * being logged after the client already got a 200.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "cms.query-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetAdvice implements ResponseBodyAdvice<Object> {
+
+    @Value("${cms.query-stats.enforce-budgets:false}")
+    private boolean enforceBudgets;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return enforceBudgets && returnType.hasMethodAnnotation(QueryBudget.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request, ServerHttpResponse response) {
+        QueryStatistics stats = QueryStatistics.current();
+        QueryBudget budget = returnType.getMethodAnnotation(QueryBudget.class);
+        if (stats != null && budget != null) {
+            String violation = QueryStatisticsFilter.checkBudget(budget, stats);
+            if (violation != null) {
+                throw new IllegalStateException("Query budget exceeded for " + request.getMethod() + " "
+                        + request.getURI().getPath() + ": " + violation);
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,85 @@
+package com.cms.config;
+
+/**
+ * Query Statistics - Per-request Hibernate activity counters.
+ * 
+ * Bound to the request thread by QueryStatisticsFilter and incremented
+ * from Hibernate callbacks (statement inspector, post-load and
+ * collection-initialization listeners). Work done on other threads
+ * (async notifications, scheduled jobs) is not attributed to a request.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+public final class QueryStatistics {
+
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private int statements;
+    private int entityLoads;
+    private int collectionFetches;
+
+    private QueryStatistics() {
+    }
+
+    /**
+     * Start collecting statistics for the current thread.
+     */
+    static QueryStatistics begin() {
+        QueryStatistics stats = new QueryStatistics();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stop collecting statistics for the current thread.
+     */
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Statistics of the request running on this thread, or null outside a request.
+     */
+    public static QueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    static void recordStatement() {
+        QueryStatistics stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+        }
+    }
+
+    static void recordEntityLoad() {
+        QueryStatistics stats = CURRENT.get();
+        if (stats != null) {
+            stats.entityLoads++;
+        }
+    }
+
+    static void recordCollectionFetch() {
+        QueryStatistics stats = CURRENT.get();
+        if (stats != null) {
+            stats.collectionFetches++;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public int getCollectionFetches() {
+        return collectionFetches;
+    }
+
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
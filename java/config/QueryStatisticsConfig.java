@@ -0,0 +1,81 @@
+package com.cms.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Query Statistics Configuration - Wires Hibernate callbacks into QueryStatistics.
+ * 
+ * Registers a statement inspector and load/collection listeners on the
+ * session factory, and an interceptor that publishes the @QueryBudget of
+ * the handling controller method to QueryStatisticsFilter.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "cms.query-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatisticsConfig implements WebMvcConfigurer {
+
+    /**
+     * Count every JDBC statement Hibernate prepares.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryStatisticsCustomizer() {
+        StatementInspector inspector = sql -> {
+            QueryStatistics.recordStatement();
+            return sql;
+        };
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+    /**
+     * Count entity loads and collection fetches once the session factory is built.
+     */
+    @Bean
+    public SmartInitializingSingleton queryStatisticsListeners(EntityManagerFactory entityManagerFactory) {
+        return () -> {
+            EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry()
+                    .getService(EventListenerRegistry.class);
+
+            registry.appendListeners(EventType.POST_LOAD,
+                    (PostLoadEventListener) event -> QueryStatistics.recordEntityLoad());
+            registry.appendListeners(EventType.INIT_COLLECTION,
+                    (InitializeCollectionEventListener) event -> QueryStatistics.recordCollectionFetch());
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (handler instanceof HandlerMethod method) {
+                    QueryBudget budget = method.getMethodAnnotation(QueryBudget.class);
+                    if (budget != null) {
+                        request.setAttribute(QueryStatisticsFilter.BUDGET_ATTRIBUTE, budget);
+                    }
+                }
+                return true;
+            }
+        });
+    }
+}
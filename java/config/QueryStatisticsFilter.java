@@ -0,0 +1,93 @@
+package com.cms.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Query Statistics Filter - Slow-query and N+1 detector.
+ * 
+ * Captures statement counts, entity loads and collection fetches for each
+ * request and logs requests over the configured thresholds. Budgets declared
+ * with @QueryBudget are checked here after the request and violations are
+ * logged; by then the response is committed, so failing the request in
+ * test mode is done earlier, by QueryBudgetAdvice.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "cms.query-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatisticsFilter extends OncePerRequestFilter {
+
+    static final String BUDGET_ATTRIBUTE = QueryBudget.class.getName();
+
+    @Value("${cms.query-stats.statement-threshold:25}")
+    private int statementThreshold;
+
+    @Value("${cms.query-stats.slow-request-ms:500}")
+    private long slowRequestMillis;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        QueryStatistics stats = QueryStatistics.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStatistics.end();
+        }
+
+        report(request, stats);
+    }
+
+    /**
+     * Log requests over the thresholds and budget violations.
+     */
+    private void report(HttpServletRequest request, QueryStatistics stats) {
+        String endpoint = request.getMethod() + " " + request.getRequestURI();
+
+        if (stats.getStatements() > statementThreshold || stats.getElapsedMillis() > slowRequestMillis) {
+            log.warn("Heavy request {}: {} statements, {} entity loads, {} collection fetches in {} ms",
+                    endpoint, stats.getStatements(), stats.getEntityLoads(),
+                    stats.getCollectionFetches(), stats.getElapsedMillis());
+        } else {
+            log.debug("Request {}: {} statements, {} entity loads, {} collection fetches in {} ms",
+                    endpoint, stats.getStatements(), stats.getEntityLoads(),
+                    stats.getCollectionFetches(), stats.getElapsedMillis());
+        }
+
+        if (request.getAttribute(BUDGET_ATTRIBUTE) instanceof QueryBudget budget) {
+            String violation = checkBudget(budget, stats);
+            if (violation != null) {
+                log.warn("Query budget exceeded for {}: {}", endpoint, violation);
+            }
+        }
+    }
+
+    // Description of the first exceeded limit, or null within budget
+    static String checkBudget(QueryBudget budget, QueryStatistics stats) {
+        if (stats.getStatements() > budget.statements()) {
+            return stats.getStatements() + " statements (budget " + budget.statements() + ")";
+        }
+        if (budget.entityLoads() >= 0 && stats.getEntityLoads() > budget.entityLoads()) {
+            return stats.getEntityLoads() + " entity loads (budget " + budget.entityLoads() + ")";
+        }
+        if (budget.collectionFetches() >= 0 && stats.getCollectionFetches() > budget.collectionFetches()) {
+            return stats.getCollectionFetches() + " collection fetches (budget " + budget.collectionFetches() + ")";
+        }
+        return null;
+    }
+}
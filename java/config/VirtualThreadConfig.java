@@ -0,0 +1,71 @@
+package com.cms.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Executors;
+
+/**
+ * Virtual Thread Configuration - Runs the web tier on Java 21 virtual threads.
+ * 
+ * Enabled with cms.threads.virtual.enabled=true. Request handling,
+ * scheduled SLA jobs and async notifications (see AsyncConfig) then run on
+ * virtual threads, so blocking JPA, SMTP and BCrypt calls no longer tie up
+ * a bounded platform thread pool. The DataSource is wrapped in a
+ * ConnectionLimitingDataSource so the database stays the only hard limit.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "cms.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * Run every Tomcat request on its own virtual thread.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("Web tier running on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Run @Scheduled jobs (SLA checks) on virtual threads.
+     */
+    @Bean
+    public TaskScheduler taskScheduler() {
+        SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setVirtualThreads(true);
+        return scheduler;
+    }
+
+    /**
+     * Cap concurrent JDBC connections so virtual threads queue before the pool.
+     */
+    @Bean
+    public static BeanPostProcessor connectionLimitingPostProcessor(
+            @Value("${cms.threads.virtual.max-db-connections:10}") int maxConnections,
+            @Value("${cms.threads.virtual.db-acquire-timeout-ms:30000}") long acquireTimeoutMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    return new ConnectionLimitingDataSource(dataSource, maxConnections, acquireTimeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
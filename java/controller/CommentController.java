@@ -0,0 +1,63 @@
+package com.cms.controller;
+
+import com.cms.dto.CommentDTO;
+import com.cms.dto.CommentPage;
+import com.cms.dto.CommentRequest;
+import com.cms.service.CommentService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Comment Controller - REST API for complaint comment threads.
+ * 
+ * Threads are paged with an opaque keyset cursor rather than page numbers,
+ * so deep threads cost the same per page as shallow ones.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/complaints/{complaintId}/comments")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class CommentController {
+
+    private final CommentService commentService;
+
+    /**
+     * Get a page of comments for a complaint.
+     */
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'CUSTOMER')")
+    public ResponseEntity<CommentPage> getComments(
+            @PathVariable String complaintId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserDetails user) {
+
+        CommentPage comments = commentService.getThread(complaintId, cursor, size, user.getUsername());
+        return ResponseEntity.ok(comments);
+    }
+
+    /**
+     * Add a comment to a complaint.
+     */
+    @PostMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'CUSTOMER')")
+    public ResponseEntity<CommentDTO> addComment(
+            @PathVariable String complaintId,
+            @Valid @RequestBody CommentRequest request,
+            @AuthenticationPrincipal UserDetails user) {
+
+        log.info("Adding comment to complaint {} by {}", complaintId, user.getUsername());
+        CommentDTO comment = commentService.addComment(complaintId, request, user.getUsername());
+        return ResponseEntity.ok(comment);
+    }
+}
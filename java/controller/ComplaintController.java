@@ -1,15 +1,39 @@
 package com.cms.controller;
 
+import com.cms.config.QueryBudget;
+import com.cms.dto.BulkAssignRequest;
+import com.cms.dto.BulkOperationResult;
+import com.cms.dto.BulkStatusUpdateRequest;
+import com.cms.dto.ClassificationRequest;
 import com.cms.dto.ComplaintDTO;
+import com.cms.dto.ComplaintPage;
 import com.cms.dto.ComplaintRequest;
+import com.cms.dto.ReclassificationRequest;
 import com.cms.dto.StatusUpdateRequest;
+import com.cms.model.Complaint.Category;
 import com.cms.model.Complaint.ComplaintStatus;
+import com.cms.model.Complaint.Priority;
+import com.cms.service.AutoAssignmentService;
+import com.cms.service.AutoAssignmentService.RebalanceResult;
+import com.cms.service.ComplaintClassifierService;
+import com.cms.service.ComplaintClassifierService.Suggestion;
+import com.cms.service.ComplaintExportService;
+import com.cms.service.ComplaintFeedService;
+import com.cms.service.ComplaintExportService.ExportFormat;
 import com.cms.service.ComplaintService;
+import com.cms.service.ComplaintService.Validators;
+import com.cms.service.DashboardStatsCache;
+import com.cms.service.DashboardStatsCache.CachedStats;
 import com.cms.service.QRCodeService;
+import com.cms.service.RequestCoalescer;
+import com.cms.service.SimilarComplaintService;
+import com.cms.service.SimilarComplaintService.SimilarComplaint;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -17,7 +41,13 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -38,6 +68,13 @@ public class ComplaintController {
 
     private final ComplaintService complaintService;
     private final QRCodeService qrCodeService;
+    private final ComplaintExportService exportService;
+    private final AutoAssignmentService assignmentService;
+    private final ComplaintFeedService feedService;
+    private final DashboardStatsCache statsCache;
+    private final RequestCoalescer coalescer;
+    private final ComplaintClassifierService classifierService;
+    private final SimilarComplaintService similarService;
 
     /**
      * Create a new complaint (Customer only).
@@ -53,28 +90,84 @@ public class ComplaintController {
         return ResponseEntity.ok(complaint);
     }
 
+    /**
+     * Suggest category and priority for a draft complaint, to pre-fill the form.
+     * Returns 204 until enough history exists to train the classifier.
+     */
+    @PostMapping("/classify")
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'CUSTOMER')")
+    public ResponseEntity<Suggestion> classifyComplaint(@Valid @RequestBody ClassificationRequest request) {
+        return classifierService.suggest(request.getTitle(), request.getDescription())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
     /**
      * Get all complaints with pagination (Admin/Staff).
+     * JSON pages are streamed from a cursor, so heap use does not grow with page size.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+    public ResponseEntity<StreamingResponseBody> streamAllComplaints(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String status) {
+
+        log.debug("Streaming complaints - page: {}, size: {}, status: {}", page, size, status);
+        ComplaintStatus statusFilter = status != null && !status.isEmpty()
+                ? ComplaintStatus.valueOf(status.toUpperCase()) : null;
+        int pageSize = complaintService.resolvePageSize(size);
+
+        StreamingResponseBody body = out -> exportService.writePage(statusFilter, page, pageSize, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * Get all complaints with pagination (Admin/Staff), for non-JSON formats.
      */
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
-    public ResponseEntity<Page<ComplaintDTO>> getAllComplaints(
+    public ResponseEntity<ComplaintPage> getAllComplaints(
             @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String status) {
 
-        log.debug("Fetching complaints - page: {}, status: {}", page, status);
-        Page<ComplaintDTO> complaints = complaintService.findAll(page, status);
-        return ResponseEntity.ok(complaints);
+        log.debug("Fetching complaints - page: {}, size: {}, status: {}", page, size, status);
+        Page<ComplaintDTO> complaints = complaintService.findAll(page, size, status);
+        return ResponseEntity.ok(ComplaintPage.of(complaints));
+    }
+
+    /**
+     * Live feed of complaint updates as Server-Sent Events (Admin/Staff).
+     * Replaces polling of the list and stats endpoints.
+     */
+    @GetMapping(value = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+    public SseEmitter subscribeToFeed(@AuthenticationPrincipal UserDetails user) {
+        log.debug("Opening complaint feed for {}", user.getUsername());
+        return feedService.subscribe(user.getUsername());
     }
 
     /**
      * Get single complaint by ID.
+     * Supports If-None-Match / If-Modified-Since; a 304 skips loading and mapping.
      */
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'CUSTOMER')")
-    public ResponseEntity<ComplaintDTO> getComplaint(@PathVariable String id) {
+    @QueryBudget(statements = 5)
+    public ResponseEntity<ComplaintDTO> getComplaint(@PathVariable String id, WebRequest request) {
+        Validators validators = complaintService.getComplaintValidators(id);
+        varyByAccept(request);
+        if (request.checkNotModified(validators.etag(), validators.lastModified())) {
+            return null;
+        }
+
         ComplaintDTO complaint = complaintService.findById(id);
-        return ResponseEntity.ok(complaint);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(complaint);
     }
 
     /**
@@ -82,25 +175,99 @@ public class ComplaintController {
      */
     @GetMapping("/my")
     @PreAuthorize("hasRole('CUSTOMER')")
-    public ResponseEntity<Page<ComplaintDTO>> getMyComplaints(
+    public ResponseEntity<ComplaintPage> getMyComplaints(
             @RequestParam(defaultValue = "0") int page,
-            @AuthenticationPrincipal UserDetails user) {
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserDetails user,
+            WebRequest request) {
 
-        Page<ComplaintDTO> complaints = complaintService.findByCustomer(getUserId(user), page);
-        return ResponseEntity.ok(complaints);
+        Validators validators = complaintService.getCustomerPageValidators(getUserId(user), page, size);
+        varyByAccept(request);
+        if (request.checkNotModified(validators.etag(), validators.lastModified())) {
+            return null;
+        }
+
+        Page<ComplaintDTO> complaints = complaintService.findByCustomer(getUserId(user), page, size);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ComplaintPage.of(complaints));
     }
 
     /**
      * Search complaints by keyword.
+     * Identical concurrent searches share one query.
      */
     @GetMapping("/search")
     @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
-    public ResponseEntity<Page<ComplaintDTO>> searchComplaints(
+    public ResponseEntity<ComplaintPage> searchComplaints(
             @RequestParam String q,
-            @RequestParam(defaultValue = "0") int page) {
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Page<ComplaintDTO> results = coalescer.execute("search", List.of(q, page, size),
+                () -> complaintService.search(q, page, size));
+        return ResponseEntity.ok(ComplaintPage.of(results));
+    }
+
+    /**
+     * Complaints linked to this one as near-duplicates (Admin/Staff).
+     */
+    @GetMapping("/{id}/duplicates")
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+    public ResponseEntity<ComplaintPage> getDuplicates(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(ComplaintPage.of(complaintService.findDuplicates(id, page, size)));
+    }
+
+    /**
+     * Resolved complaints most similar to this one, with their resolution notes (Admin/Staff).
+     */
+    @GetMapping("/{id}/similar")
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+    public ResponseEntity<List<SimilarComplaint>> getSimilarComplaints(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "5") int k) {
 
-        Page<ComplaintDTO> results = complaintService.search(q, page);
-        return ResponseEntity.ok(results);
+        return ResponseEntity.ok(similarService.findSimilar(id, Math.max(1, Math.min(k, 20))));
+    }
+
+    /**
+     * Stream complaints as NDJSON or CSV (Admin/Staff).
+     * Filters are optional; the date range applies to createdAt [from, to).
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+    public ResponseEntity<StreamingResponseBody> exportComplaints(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        ExportFormat exportFormat = ExportFormat.valueOf(format.toUpperCase());
+        ComplaintStatus statusFilter = status != null ? ComplaintStatus.valueOf(status.toUpperCase()) : null;
+        Priority priorityFilter = priority != null ? Priority.valueOf(priority.toUpperCase()) : null;
+        Category categoryFilter = category != null ? Category.valueOf(category.toUpperCase()) : null;
+
+        log.info("Exporting complaints as {} - status: {}, priority: {}, category: {}, from: {}, to: {}",
+                exportFormat, status, priority, category, from, to);
+
+        StreamingResponseBody body = out -> exportService.export(
+                exportFormat, statusFilter, priorityFilter, categoryFilter, from, to, out);
+
+        MediaType contentType = exportFormat == ExportFormat.CSV
+                ? new MediaType("text", "csv")
+                : MediaType.APPLICATION_NDJSON;
+        String filename = "complaints." + (exportFormat == ExportFormat.CSV ? "csv" : "ndjson");
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
     }
 
     /**
@@ -114,7 +281,23 @@ public class ComplaintController {
 
         log.info("Updating complaint {} status to {}", id, request.getStatus());
         ComplaintDTO updated = complaintService.updateStatus(id,
-                ComplaintStatus.valueOf(request.getStatus().toUpperCase()));
+                ComplaintStatus.valueOf(request.getStatus().toUpperCase()), request.getNotes());
+        return ResponseEntity.ok(updated);
+    }
+
+    /**
+     * Confirm or correct category and priority (Admin/Staff).
+     */
+    @PatchMapping("/{id}/classification")
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+    public ResponseEntity<ComplaintDTO> reclassifyComplaint(
+            @PathVariable String id,
+            @Valid @RequestBody ReclassificationRequest request) {
+
+        log.info("Reclassifying complaint {} as {}/{}", id, request.getCategory(), request.getPriority());
+        ComplaintDTO updated = complaintService.reclassify(id,
+                Category.valueOf(request.getCategory().toUpperCase()),
+                Priority.valueOf(request.getPriority().toUpperCase()));
         return ResponseEntity.ok(updated);
     }
 
@@ -132,14 +315,58 @@ public class ComplaintController {
         return ResponseEntity.ok(updated);
     }
 
+    /**
+     * Update the status of many complaints at once (Admin/Staff).
+     */
+    @PatchMapping("/bulk/status")
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+    public ResponseEntity<BulkOperationResult> bulkUpdateStatus(
+            @Valid @RequestBody BulkStatusUpdateRequest request) {
+
+        log.info("Bulk updating {} complaints to status {}", request.getComplaintIds().size(), request.getStatus());
+        BulkOperationResult result = complaintService.bulkUpdateStatus(request.getComplaintIds(),
+                ComplaintStatus.valueOf(request.getStatus().toUpperCase()));
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Assign many complaints to one staff member (Admin only).
+     */
+    @PatchMapping("/bulk/assign")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkOperationResult> bulkAssign(@Valid @RequestBody BulkAssignRequest request) {
+        log.info("Bulk assigning {} complaints to staff {}", request.getComplaintIds().size(), request.getStaffId());
+        BulkOperationResult result = complaintService.bulkAssign(request.getComplaintIds(), request.getStaffId());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Redistribute all not-yet-started complaints across active staff (Admin only).
+     */
+    @PostMapping("/rebalance")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RebalanceResult> rebalanceAssignments() {
+        log.info("Rebalancing complaint assignments");
+        RebalanceResult result = assignmentService.rebalance();
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Get dashboard statistics (Admin/Staff).
+     * Served from a short-lived shared cache; supports If-None-Match.
      */
     @GetMapping("/stats")
     @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
-    public ResponseEntity<Map<String, Object>> getDashboardStats() {
-        Map<String, Object> stats = complaintService.getDashboardStats();
-        return ResponseEntity.ok(stats);
+    @QueryBudget(statements = 6)
+    public ResponseEntity<Map<String, Object>> getDashboardStats(WebRequest request) {
+        CachedStats cached = statsCache.get();
+        varyByAccept(request);
+        if (request.checkNotModified(cached.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(cached.stats());
     }
 
     /**
@@ -170,6 +397,14 @@ public class ComplaintController {
                 "dataUri", "data:image/png;base64," + base64));
     }
 
+    // JSON, CBOR and Smile share URLs and validators, so caches must key on Accept;
+    // set on the response up front so 304s carry it too
+    private static void varyByAccept(WebRequest request) {
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+    }
+
     // Helper to extract user ID from authentication
     private String getUserId(UserDetails user) {
         // In production, would get from custom UserDetails implementation
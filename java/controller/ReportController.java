@@ -0,0 +1,113 @@
+package com.cms.controller;
+
+import com.cms.model.ComplaintRollup.Granularity;
+import com.cms.service.ComplaintRollupService;
+import com.cms.service.ComplaintRollupService.ReportSummary;
+import com.cms.service.ComplaintRollupService.SeriesPoint;
+import com.cms.service.GamificationService;
+import com.cms.service.GamificationService.LeaderboardEntry;
+import com.cms.service.RequestCoalescer;
+import com.cms.service.RequestCoalescer.CoalescingStats;
+import com.cms.service.SLAService;
+import com.cms.service.SentimentAnalysisService;
+import com.cms.service.SentimentAnalysisService.SentimentCacheStatistics;
+import com.cms.service.SLAService.SLAStatistics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Report Controller - REST API for complaint reports.
+ * 
+ * All report ranges are served from pre-aggregated rollup buckets, so the
+ * cost of a report depends on the length of the range, not on complaint volume.
+ * Live SLA statistics and the leaderboard are coalesced, so identical
+ * concurrent requests share one computation.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/reports")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class ReportController {
+
+    private final ComplaintRollupService rollupService;
+    private final SLAService slaService;
+    private final GamificationService gamificationService;
+    private final RequestCoalescer coalescer;
+    private final SentimentAnalysisService sentimentService;
+
+    /**
+     * Totals by category, priority and sentiment for [from, to), widened to
+     * whole rollup buckets; the response carries the range actually covered.
+     */
+    @GetMapping("/summary")
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+    public ResponseEntity<ReportSummary> getSummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        return ResponseEntity.ok(rollupService.getSummary(from, to));
+    }
+
+    /**
+     * Hourly or daily time series for [from, to).
+     */
+    @GetMapping("/timeseries")
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+    public ResponseEntity<List<SeriesPoint>> getTimeSeries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "day") String granularity) {
+
+        return ResponseEntity.ok(rollupService.getTimeSeries(
+                from, to, Granularity.valueOf(granularity.toUpperCase())));
+    }
+
+    /**
+     * Current SLA compliance statistics.
+     */
+    @GetMapping("/sla")
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+    public ResponseEntity<SLAStatistics> getSLAStatistics() {
+        return ResponseEntity.ok(coalescer.execute("slaStatistics", null, slaService::getStatistics));
+    }
+
+    /**
+     * Top staff by points.
+     */
+    @GetMapping("/leaderboard")
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+    public ResponseEntity<List<LeaderboardEntry>> getLeaderboard(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(coalescer.execute("leaderboard", limit,
+                () -> gamificationService.getLeaderboard(limit)));
+    }
+
+    /**
+     * Executions and coalesced calls per operation (Admin only).
+     */
+    @GetMapping("/coalescing")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, CoalescingStats>> getCoalescingStatistics() {
+        return ResponseEntity.ok(coalescer.getStatistics());
+    }
+
+    /**
+     * Sentiment result cache hit rate and size (Admin only).
+     */
+    @GetMapping("/sentiment-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SentimentCacheStatistics> getSentimentCacheStatistics() {
+        return ResponseEntity.ok(sentimentService.getCacheStatistics());
+    }
+}
@@ -0,0 +1,62 @@
+package com.cms.controller;
+
+import com.cms.dto.SlaPolicyRuleDTO;
+import com.cms.model.Complaint.Priority;
+import com.cms.service.EscalationPolicyService;
+import com.cms.service.EscalationPolicyService.EscalationStep;
+import com.cms.service.SlaPolicyService;
+import com.cms.service.SlaPolicyService.PolicyUpdateResult;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SLA Policy Controller - REST API for the SLA policy rules and escalation chains.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/sla/policy")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class SlaPolicyController {
+
+    private final SlaPolicyService policyService;
+    private final EscalationPolicyService escalationPolicy;
+
+    /**
+     * Current SLA policy rules (Admin/Staff).
+     */
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+    public ResponseEntity<List<SlaPolicyRuleDTO>> getRules() {
+        return ResponseEntity.ok(policyService.getRules());
+    }
+
+    /**
+     * Replace the SLA policy and recalculate affected open deadlines (Admin only).
+     */
+    @PutMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PolicyUpdateResult> replaceRules(@Valid @RequestBody List<@Valid SlaPolicyRuleDTO> rules) {
+        log.info("Replacing SLA policy with {} rules", rules.size());
+        return ResponseEntity.ok(policyService.replaceRules(rules));
+    }
+
+    /**
+     * Current escalation chains per priority (Admin/Staff).
+     */
+    @GetMapping("/escalation")
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+    public ResponseEntity<Map<Priority, List<EscalationStep>>> getEscalationChains() {
+        return ResponseEntity.ok(escalationPolicy.getChains());
+    }
+}
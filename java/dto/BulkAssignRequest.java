@@ -0,0 +1,24 @@
+package com.cms.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import java.util.List;
+
+/**
+ * Bulk Assign Request DTO - For assigning many complaints to one staff member.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAssignRequest {
+
+    @NotEmpty(message = "At least one complaint ID is required")
+    @Size(max = 5000, message = "At most 5000 complaints per request")
+    private List<String> complaintIds;
+
+    @NotBlank(message = "Staff ID is required")
+    private String staffId;
+}
@@ -0,0 +1,17 @@
+package com.cms.dto;
+
+import lombok.*;
+
+/**
+ * Bulk Item Result DTO - Outcome for one complaint of a bulk operation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResult {
+    private String complaintId;
+    private boolean success;
+    private String status;
+    private String error;
+}
@@ -0,0 +1,18 @@
+package com.cms.dto;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * Bulk Operation Result DTO - Summary and per-item outcomes of a bulk operation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResult {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResult> results;
+}
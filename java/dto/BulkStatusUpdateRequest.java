@@ -0,0 +1,24 @@
+package com.cms.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import java.util.List;
+
+/**
+ * Bulk Status Update Request DTO - For moving many complaints to one status.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+
+    @NotEmpty(message = "At least one complaint ID is required")
+    @Size(max = 5000, message = "At most 5000 complaints per request")
+    private List<String> complaintIds;
+
+    @NotBlank(message = "Status is required")
+    private String status;
+}
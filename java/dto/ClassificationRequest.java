@@ -0,0 +1,22 @@
+package com.cms.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+/**
+ * Classification Request DTO - Draft complaint text to suggest category and priority for.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClassificationRequest {
+
+    @Size(max = 200, message = "Title must be at most 200 characters")
+    private String title;
+
+    @NotBlank(message = "Description is required")
+    @Size(max = 5000, message = "Description must be at most 5000 characters")
+    private String description;
+}
@@ -0,0 +1,24 @@
+package com.cms.dto;
+
+import com.cms.model.User.UserRole;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Comment DTO - A single comment in a complaint thread.
+ * Built directly by the thread query so authors are never loaded as entities.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentDTO {
+    private String id;
+    private String complaintId;
+    private String authorId;
+    private String authorName;
+    private UserRole authorRole;
+    private String content;
+    private boolean internal;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,18 @@
+package com.cms.dto;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * Comment Page DTO - One keyset page of a comment thread.
+ * Pass nextCursor back as the cursor parameter to fetch the following page;
+ * it is null on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentPage {
+    private List<CommentDTO> comments;
+    private String nextCursor;
+}
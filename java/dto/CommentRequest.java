@@ -0,0 +1,22 @@
+package com.cms.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+/**
+ * Comment Request DTO - For posting a comment on a complaint.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentRequest {
+
+    @NotBlank(message = "Comment content is required")
+    @Size(min = 1, max = 2000, message = "Comment must be between 1 and 2000 characters")
+    private String content;
+
+    // Internal (staff-only) note; ignored for customers
+    private boolean internal;
+}
@@ -26,4 +26,7 @@ public class ComplaintDTO {
     private String customerName;
     private String assignedStaffId;
     private String assignedStaffName;
+    private Integer commentCount;
+    private LocalDateTime lastActivityAt;
+    private String duplicateOfId;
 }
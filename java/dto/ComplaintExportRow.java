@@ -0,0 +1,30 @@
+package com.cms.dto;
+
+import com.cms.model.Complaint.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Complaint Export Row - Flat projection of a complaint for bulk export.
+ * Built directly by the export query so no entity is managed per row.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintExportRow {
+    private String id;
+    private String title;
+    private String description;
+    private Category category;
+    private Priority priority;
+    private ComplaintStatus status;
+    private Sentiment sentiment;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime slaDeadline;
+    private Integer escalationLevel;
+    private String customerId;
+    private String customerName;
+    private String assignedStaffId;
+    private String assignedStaffName;
+}
@@ -0,0 +1,24 @@
+package com.cms.dto;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Complaint Feed Event DTO - One entry of the live complaint feed (SSE).
+ * Type is CREATED, ASSIGNED, STATUS_CHANGED, ESCALATED or SLA_WARNING.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintFeedEvent {
+    private String type;
+    private String complaintId;
+    private String fromStatus;
+    private String toStatus;
+    private String staffId;
+    private String previousStaffId;
+    private String priority;
+    private Integer escalationLevel;
+    private LocalDateTime occurredAt;
+}
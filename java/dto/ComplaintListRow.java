@@ -0,0 +1,32 @@
+package com.cms.dto;
+
+import com.cms.model.Complaint.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Complaint List Row - Flat projection of one complaint for streamed list pages.
+ * Carries the same fields as ComplaintDTO without loading entities.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintListRow {
+    private String id;
+    private String title;
+    private String description;
+    private Category category;
+    private Priority priority;
+    private ComplaintStatus status;
+    private Sentiment sentiment;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime slaDeadline;
+    private String customerId;
+    private String customerName;
+    private String assignedStaffId;
+    private String assignedStaffName;
+    private Integer commentCount;
+    private LocalDateTime lastActivityAt;
+    private String duplicateOfId;
+}
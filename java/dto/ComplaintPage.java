@@ -0,0 +1,32 @@
+package com.cms.dto;
+
+import lombok.*;
+import org.springframework.data.domain.Page;
+import java.util.List;
+
+/**
+ * Complaint Page DTO - Lean page envelope for complaint lists.
+ * Carries only what clients page with, instead of the Spring Data Page
+ * metadata (pageable, sort, numberOfElements, first/last, empty...).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintPage {
+    private List<ComplaintDTO> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private boolean hasNext;
+
+    public static ComplaintPage of(Page<ComplaintDTO> page) {
+        return ComplaintPage.builder()
+                .content(page.getContent())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .hasNext(page.hasNext())
+                .build();
+    }
+}
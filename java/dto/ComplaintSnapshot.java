@@ -0,0 +1,25 @@
+package com.cms.dto;
+
+import com.cms.model.Complaint.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Complaint Snapshot - Scalar state of a complaint read for a conditional update.
+ * Built directly by the query, so nothing is added to the persistence context.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintSnapshot {
+    private String id;
+    private ComplaintStatus status;
+    private Priority priority;
+    private Category category;
+    private Sentiment sentiment;
+    private LocalDateTime createdAt;
+    private LocalDateTime slaDeadline;
+    private String assignedStaffId;
+    private Long version;
+    private Integer escalationLevel;
+}
@@ -0,0 +1,20 @@
+package com.cms.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+/**
+ * Reclassification Request DTO - Staff-confirmed category and priority of a complaint.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReclassificationRequest {
+
+    @NotBlank(message = "Category is required")
+    private String category;
+
+    @NotBlank(message = "Priority is required")
+    private String priority;
+}
@@ -0,0 +1,28 @@
+package com.cms.dto;
+
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+/**
+ * SLA Policy Rule DTO - One rule of the SLA policy, for reading and replacing it.
+ * Null match fields match everything.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlaPolicyRuleDTO {
+    private Long id;
+    private String priority;
+    private String category;
+    private String sentiment;
+    private String customerTier;
+
+    @Positive(message = "Base hours must be positive")
+    private Integer baseHours;
+
+    @Positive(message = "Multiplier must be positive")
+    private Double multiplier;
+
+    private String description;
+}
@@ -17,7 +17,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "comments", indexes = {
-    @Index(name = "idx_comment_complaint", columnList = "complaint_id"),
+    @Index(name = "idx_comment_thread", columnList = "complaint_id, created_at, id"),
     @Index(name = "idx_comment_created", columnList = "created_at")
 })
 @Getter @Setter
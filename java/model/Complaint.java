@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Complaint Entity - Core domain model for the CMS system.
@@ -17,19 +19,29 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "complaints", indexes = {
-    @Index(name = "idx_complaint_status", columnList = "status"),
+    @Index(name = "idx_complaint_status_created", columnList = "status, created_at DESC"),
     @Index(name = "idx_complaint_priority", columnList = "priority"),
-    @Index(name = "idx_complaint_customer", columnList = "customer_id")
+    @Index(name = "idx_complaint_customer_created", columnList = "customer_id, created_at DESC"),
+    @Index(name = "idx_complaint_created", columnList = "created_at")
+    // Partial indexes (open SLA backlog, assignee) are defined in db/migration
 })
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
 @Builder
+@DynamicUpdate
 public class Complaint {
 
+    // Number of SLA scan shards; see SlaShardCoordinator and db/migration
+    public static final int SLA_SHARD_COUNT = 64;
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
+    // Optimistic lock; bulk and conditional JPQL updates increment it explicitly
+    @Version
+    private Long version;
+
     @NotBlank(message = "Title is required")
     @Size(min = 5, max = 200, message = "Title must be between 5 and 200 characters")
     @Column(nullable = false)
@@ -79,11 +91,49 @@ public class Complaint {
     @Column(name = "escalation_level")
     private Integer escalationLevel = 0;
 
+    // When the next escalation level is due; null once the chain is exhausted
+    @Column(name = "next_escalation_at")
+    private LocalDateTime nextEscalationAt;
+
+    // Denormalized from comments so list views never join them.
+    // Only customer-visible comments are counted.
+    @Builder.Default
+    @Column(name = "comment_count", nullable = false)
+    private Integer commentCount = 0;
+
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+
+    // Customer history at intake; an SLA policy input
+    @Enumerated(EnumType.STRING)
+    @Column(name = "customer_tier", length = 20)
+    private CustomerTier customerTier;
+
+    // SLA scan shard, random at insert so shards stay evenly sized
+    @Column(name = "sla_shard", nullable = false, updatable = false)
+    private Integer slaShard;
+
+    // Open complaint this one was detected as a near-duplicate of at intake
+    @Column(name = "duplicate_of_id", length = 36)
+    private String duplicateOfId;
+
+    // Category and priority confirmed or corrected by staff; only such
+    // complaints are used to train the classifier
+    @Column(name = "labels_reviewed", nullable = false)
+    private boolean labelsReviewed;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        this.lastActivityAt = this.createdAt;
         this.status = ComplaintStatus.NEW;
+        if (this.slaShard == null) {
+            this.slaShard = ThreadLocalRandom.current().nextInt(SLA_SHARD_COUNT);
+        }
+        if (this.nextEscalationAt == null) {
+            this.nextEscalationAt = this.slaDeadline;
+        }
     }
 
     @PreUpdate
@@ -107,4 +157,8 @@ public class Complaint {
     public enum Sentiment {
         ANGRY, FRUSTRATED, NEUTRAL, SATISFIED
     }
+
+    public enum CustomerTier {
+        FIRST_TIME, REGULAR, REPEAT
+    }
 }
@@ -0,0 +1,98 @@
+package com.cms.model;
+
+import com.cms.model.Complaint.*;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import java.time.LocalDateTime;
+
+/**
+ * Complaint Event Entity - Append-only record of a complaint lifecycle change.
+ * 
+ * Written in the same transaction as the change itself (create, assign,
+ * status change, escalation) and never updated. Each event carries the
+ * classification of the complaint and the exact elapsed time since creation,
+ * so history and analytics never depend on mutable complaint columns.
+ * The table is range-partitioned by month on occurred_at (see db/migration).
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Entity
+@Immutable
+@Table(name = "complaint_events", indexes = {
+    @Index(name = "idx_event_complaint", columnList = "complaint_id, occurred_at"),
+    @Index(name = "idx_event_to_status", columnList = "to_status, occurred_at")
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class ComplaintEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(name = "complaint_id", nullable = false)
+    private String complaintId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EventType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", length = 20)
+    private ComplaintStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", length = 20)
+    private ComplaintStatus toStatus;
+
+    // Assignee after the event
+    @Column(name = "staff_id")
+    private String staffId;
+
+    // Assignee before the event; differs from staffId on reassignment
+    @Column(name = "previous_staff_id")
+    private String previousStaffId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Priority priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private Category category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Sentiment sentiment;
+
+    @Column(name = "escalation_level")
+    private Integer escalationLevel;
+
+    // First escalation of the complaint, i.e. the SLA breach; counted once
+    // by the rollups whatever level it reached when levels collapse
+    @Column(name = "sla_breach", nullable = false)
+    private boolean slaBreach;
+
+    // First move of the complaint to IN_PROGRESS (its first response);
+    // lets the rollups keep first-response totals without a per-complaint scan
+    @Column(name = "first_response", nullable = false)
+    private boolean firstResponse;
+
+    // Exact time from complaint creation to this event
+    @Column(name = "seconds_since_created", nullable = false)
+    private long secondsSinceCreated;
+
+    // Whether the event happened before the SLA deadline
+    @Column(name = "within_sla", nullable = false)
+    private boolean withinSla;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    public enum EventType {
+        CREATED, ASSIGNED, STATUS_CHANGED, ESCALATED
+    }
+}
@@ -0,0 +1,91 @@
+package com.cms.model;
+
+import com.cms.model.Complaint.*;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Complaint Rollup Entity - Pre-aggregated complaint counters per time bucket.
+ * 
+ * One row per (granularity, bucket start, category, priority, sentiment).
+ * Hourly rows are maintained incrementally from complaint events and
+ * compacted into daily rows once they age out, so report queries read a
+ * number of rows proportional to the buckets in range, not the complaints.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "complaint_rollups")
+@IdClass(ComplaintRollup.Key.class)
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class ComplaintRollup {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private Granularity granularity;
+
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private Category category;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Priority priority;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Sentiment sentiment;
+
+    @Column(nullable = false)
+    private long created;
+
+    @Column(nullable = false)
+    private long resolved;
+
+    // Complaints escalated for the first time (SLA breach)
+    @Column(nullable = false)
+    private long breached;
+
+    // Sum of seconds from creation to resolution over the resolved complaints
+    @Column(name = "resolution_seconds", nullable = false)
+    private long resolutionSeconds;
+
+    @Column(name = "resolved_within_sla", nullable = false)
+    private long resolvedWithinSla;
+
+    // First responses and the sum of their seconds since creation
+    @Column(name = "first_responses", nullable = false)
+    private long firstResponses;
+
+    @Column(name = "first_response_seconds", nullable = false)
+    private long firstResponseSeconds;
+
+    public enum Granularity {
+        HOUR, DAY
+    }
+
+    // Composite primary key
+    @Data
+    @NoArgsConstructor @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Granularity granularity;
+        private LocalDateTime bucketStart;
+        private Category category;
+        private Priority priority;
+        private Sentiment sentiment;
+    }
+}
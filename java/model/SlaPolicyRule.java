@@ -0,0 +1,55 @@
+package com.cms.model;
+
+import com.cms.model.Complaint.*;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * SLA Policy Rule Entity - One rule of the SLA policy.
+ * 
+ * A rule matches complaints on any combination of priority, category,
+ * sentiment and customer tier (null matches everything). Matching rules
+ * can replace the base resolution time (most specific rule wins) and
+ * scale it (all multipliers apply). Rules are compiled into a lookup
+ * table by SlaPolicyService and never interpreted on the create path.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "sla_policy_rules")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class SlaPolicyRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Priority priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private Category category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Sentiment sentiment;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "customer_tier", length = 20)
+    private CustomerTier customerTier;
+
+    // Replaces the base resolution time when set
+    @Column(name = "base_hours")
+    private Integer baseHours;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Double multiplier = 1.0;
+
+    private String description;
+}
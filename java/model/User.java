@@ -89,6 +89,10 @@ public class User implements UserDetails {
     @Column(name = "last_login")
     private LocalDateTime lastLogin;
 
+    // BCP 47 language tag for notifications; null uses cms.notification.default-locale
+    @Column(name = "locale", length = 35)
+    private String locale;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -0,0 +1,53 @@
+package com.cms.repository;
+
+import com.cms.dto.CommentDTO;
+import com.cms.model.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Comment Repository - Data access layer for complaint comments.
+ * 
+ * Threads are read with keyset paging on (createdAt, id), so every page is
+ * an index range scan on idx_comment_thread regardless of thread depth.
+ * Internal-note filtering happens in SQL.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, String> {
+
+    // First page of a thread, oldest first
+    @Query("SELECT new com.cms.dto.CommentDTO(c.id, c.complaint.id, a.id, a.name, a.role, " +
+            "c.content, c.internal, c.createdAt) " +
+            "FROM Comment c JOIN c.author a " +
+            "WHERE c.complaint.id = :complaintId " +
+            "AND (:includeInternal = true OR c.internal = false) " +
+            "ORDER BY c.createdAt, c.id")
+    List<CommentDTO> findThread(
+            @Param("complaintId") String complaintId,
+            @Param("includeInternal") boolean includeInternal,
+            Pageable limit);
+
+    // Following pages of a thread, strictly after the (createdAt, id) cursor
+    @Query("SELECT new com.cms.dto.CommentDTO(c.id, c.complaint.id, a.id, a.name, a.role, " +
+            "c.content, c.internal, c.createdAt) " +
+            "FROM Comment c JOIN c.author a " +
+            "WHERE c.complaint.id = :complaintId " +
+            "AND (:includeInternal = true OR c.internal = false) " +
+            "AND (c.createdAt > :afterCreatedAt OR (c.createdAt = :afterCreatedAt AND c.id > :afterId)) " +
+            "ORDER BY c.createdAt, c.id")
+    List<CommentDTO> findThreadAfter(
+            @Param("complaintId") String complaintId,
+            @Param("includeInternal") boolean includeInternal,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") String afterId,
+            Pageable limit);
+}
@@ -0,0 +1,42 @@
+package com.cms.repository;
+
+import com.cms.model.Complaint.ComplaintStatus;
+import com.cms.model.ComplaintEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Complaint Event Repository - Data access layer for the complaint event log.
+ * 
+ * Analytics read only the events of interest through idx_event_to_status,
+ * and the occurred_at bound lets the database prune monthly partitions.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Repository
+public interface ComplaintEventRepository extends JpaRepository<ComplaintEvent, String> {
+
+    // Full history of one complaint
+    List<ComplaintEvent> findByComplaintIdOrderByOccurredAt(String complaintId);
+
+    // Complaints among the given ones that already have an event moving them to the status
+    @Query("SELECT DISTINCT e.complaintId FROM ComplaintEvent e " +
+            "WHERE e.complaintId IN :ids AND e.toStatus = :status")
+    List<String> findComplaintIdsWithStatus(
+            @Param("ids") Collection<String> ids,
+            @Param("status") ComplaintStatus status);
+
+    // Complaints that moved to one of the statuses since a point in time
+    @Query("SELECT DISTINCT e.complaintId FROM ComplaintEvent e " +
+            "WHERE e.toStatus IN :statuses AND e.occurredAt >= :since")
+    List<String> findComplaintIdsReachingStatusSince(
+            @Param("statuses") Collection<ComplaintStatus> statuses,
+            @Param("since") LocalDateTime since);
+}
@@ -1,16 +1,27 @@
 package com.cms.repository;
 
+import com.cms.dto.ComplaintExportRow;
+import com.cms.dto.ComplaintListRow;
+import com.cms.dto.ComplaintSnapshot;
 import com.cms.model.Complaint;
 import com.cms.model.Complaint.*;
+import com.cms.model.User;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * Complaint Repository - Data access layer for complaints.
@@ -30,12 +41,33 @@ public interface ComplaintRepository extends JpaRepository<Complaint, String> {
     // Find all complaints NOT in a specific status (for SLA checking)
     List<Complaint> findByStatusNot(ComplaintStatus status);
 
+    // Find complaints in the given statuses, most urgent SLA first (for rebalancing)
+    List<Complaint> findByStatusInOrderBySlaDeadlineAsc(Collection<ComplaintStatus> statuses);
+
     // Find complaints by priority
     Page<Complaint> findByPriority(Priority priority, Pageable pageable);
 
     // Find complaints by customer
     Page<Complaint> findByCustomerId(String customerId, Pageable pageable);
 
+    // Customer history for the SLA policy
+    long countByCustomerIdAndCreatedAtAfter(String customerId, LocalDateTime since);
+
+    // SLA policy inputs of all open complaints (deadline recalculation)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.id, c.createdAt, c.priority, c.category, c.sentiment, c.customerTier FROM Complaint c " +
+            "WHERE c.status NOT IN ('RESOLVED', 'CLOSED')")
+    Stream<Object[]> streamOpenSlaInputs();
+
+    // Change markers for one complaint (conditional GET validators)
+    @Query("SELECT c.updatedAt, c.lastActivityAt, c.version FROM Complaint c WHERE c.id = :id")
+    List<Object[]> findChangeMarkers(@Param("id") String id);
+
+    // Change markers for a customer's complaints (conditional GET validators for pages)
+    @Query("SELECT MAX(c.updatedAt), MAX(c.lastActivityAt), COUNT(c) FROM Complaint c " +
+            "WHERE c.customer.id = :customerId")
+    List<Object[]> findChangeMarkersByCustomer(@Param("customerId") String customerId);
+
     // Find complaints assigned to staff
     Page<Complaint> findByAssignedStaffId(String staffId, Pageable pageable);
 
@@ -51,6 +83,28 @@ public interface ComplaintRepository extends JpaRepository<Complaint, String> {
             "AND c.slaDeadline < :now")
     List<Complaint> findBreachedSLAComplaints(@Param("now") LocalDateTime now);
 
+    // Complaints nearing SLA in the given scan shards
+    @Query("SELECT c FROM Complaint c WHERE c.status NOT IN ('RESOLVED', 'CLOSED') " +
+            "AND c.slaShard IN :shards AND c.slaDeadline BETWEEN :now AND :deadline")
+    List<Complaint> findComplaintsNearingSLAInShards(
+            @Param("now") LocalDateTime now,
+            @Param("deadline") LocalDateTime deadline,
+            @Param("shards") Collection<Integer> shards);
+
+    // Breached SLA complaints in the given scan shards
+    @Query("SELECT c FROM Complaint c WHERE c.status NOT IN ('RESOLVED', 'CLOSED') " +
+            "AND c.slaShard IN :shards AND c.slaDeadline < :now")
+    List<Complaint> findBreachedSLAComplaintsInShards(
+            @Param("now") LocalDateTime now,
+            @Param("shards") Collection<Integer> shards);
+
+    // Complaints whose next escalation level is due, in the given scan shards
+    @Query("SELECT c FROM Complaint c WHERE c.status NOT IN ('RESOLVED', 'CLOSED') " +
+            "AND c.slaShard IN :shards AND c.nextEscalationAt <= :now")
+    List<Complaint> findDueEscalationsInShards(
+            @Param("now") LocalDateTime now,
+            @Param("shards") Collection<Integer> shards);
+
     // Dashboard analytics - Count by status
     @Query("SELECT c.status, COUNT(c) FROM Complaint c GROUP BY c.status")
     List<Object[]> countByStatus();
@@ -79,8 +133,177 @@ public interface ComplaintRepository extends JpaRepository<Complaint, String> {
             "OR LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     Page<Complaint> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
-    // Get average resolution time in hours
-    @Query("SELECT AVG(FUNCTION('TIMESTAMPDIFF', HOUR, c.createdAt, c.updatedAt)) " +
-            "FROM Complaint c WHERE c.status = 'RESOLVED'")
-    Double getAverageResolutionTimeHours();
+    // Bulk export - forward-only stream of flat rows, optional filters
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.cms.dto.ComplaintExportRow(c.id, c.title, c.description, c.category, " +
+            "c.priority, c.status, c.sentiment, c.createdAt, c.updatedAt, c.slaDeadline, " +
+            "c.escalationLevel, cu.id, cu.name, s.id, s.name) " +
+            "FROM Complaint c JOIN c.customer cu LEFT JOIN c.assignedStaff s " +
+            "WHERE (:status IS NULL OR c.status = :status) " +
+            "AND (:priority IS NULL OR c.priority = :priority) " +
+            "AND (:category IS NULL OR c.category = :category) " +
+            "AND (:start IS NULL OR c.createdAt >= :start) " +
+            "AND (:end IS NULL OR c.createdAt < :end) " +
+            "ORDER BY c.createdAt")
+    Stream<ComplaintExportRow> streamForExport(
+            @Param("status") ComplaintStatus status,
+            @Param("priority") Priority priority,
+            @Param("category") Category category,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // Streamed list page - flat rows, newest first, optional status filter
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+    @Query("SELECT new com.cms.dto.ComplaintListRow(c.id, c.title, c.description, c.category, " +
+            "c.priority, c.status, c.sentiment, c.createdAt, c.updatedAt, c.slaDeadline, " +
+            "cu.id, cu.name, s.id, s.name, c.commentCount, c.lastActivityAt, c.duplicateOfId) " +
+            "FROM Complaint c JOIN c.customer cu LEFT JOIN c.assignedStaff s " +
+            "WHERE (:status IS NULL OR c.status = :status) " +
+            "ORDER BY c.createdAt DESC, c.id DESC " +
+            "LIMIT :limit OFFSET :offset")
+    Stream<ComplaintListRow> streamPage(
+            @Param("status") ComplaintStatus status,
+            @Param("offset") int offset,
+            @Param("limit") int limit);
+
+    // Total for a streamed list page
+    @Query("SELECT COUNT(c) FROM Complaint c WHERE (:status IS NULL OR c.status = :status)")
+    long countForList(@Param("status") ComplaintStatus status);
+
+    // Id, title and description of open complaints that are not duplicates themselves
+    // (duplicate index rebuild; only group roots are indexed)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.id, c.title, c.description FROM Complaint c WHERE c.status NOT IN ('RESOLVED', 'CLOSED') " +
+            "AND c.duplicateOfId IS NULL")
+    Stream<Object[]> streamOpenText();
+
+    // Open group roots created since a point in time (duplicate index sync across nodes)
+    @Query("SELECT c.id, c.title, c.description FROM Complaint c WHERE c.status NOT IN ('RESOLVED', 'CLOSED') " +
+            "AND c.duplicateOfId IS NULL AND c.createdAt >= :since")
+    Stream<Object[]> streamOpenTextCreatedSince(@Param("since") LocalDateTime since);
+
+    // Text and staff-reviewed labels (classifier training)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.title, c.description, c.category, c.priority FROM Complaint c " +
+            "WHERE c.labelsReviewed = true")
+    Stream<Object[]> streamTrainingSet();
+
+    // Title and description of one complaint (similarity queries)
+    @Query("SELECT c.title, c.description FROM Complaint c WHERE c.id = :id")
+    List<Object[]> findTextById(@Param("id") String id);
+
+    // Id, title and description of finished complaints (similarity index rebuild)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.id, c.title, c.description FROM Complaint c WHERE c.status IN ('RESOLVED', 'CLOSED')")
+    Stream<Object[]> streamResolvedText();
+
+    // Id, title and description of the given complaints (similarity indexing)
+    @Query("SELECT c.id, c.title, c.description FROM Complaint c WHERE c.id IN :ids")
+    List<Object[]> findTextByIds(@Param("ids") Collection<String> ids);
+
+    // How the given complaints were resolved
+    @Query("SELECT c.id, c.title, c.resolutionNotes, c.updatedAt FROM Complaint c WHERE c.id IN :ids")
+    List<Object[]> findResolutionsByIds(@Param("ids") Collection<String> ids);
+
+    // Store resolution notes without loading the complaint
+    @Modifying
+    @Query("UPDATE Complaint c SET c.resolutionNotes = :notes WHERE c.id = :id")
+    int saveResolutionNotes(@Param("id") String id, @Param("notes") String notes);
+
+    // Complaints linked to the given complaint as near-duplicates
+    Page<Complaint> findByDuplicateOfId(String duplicateOfId, Pageable pageable);
+
+    // Record a customer-visible comment without loading the complaint
+    @Modifying
+    @Query("UPDATE Complaint c SET c.commentCount = c.commentCount + 1, c.lastActivityAt = :at, " +
+            "c.version = c.version + 1 WHERE c.id = :id")
+    int recordCommentActivity(@Param("id") String id, @Param("at") LocalDateTime at);
+
+    // Open workload per staff member and priority (for auto-assignment)
+    @Query("SELECT c.assignedStaff.id, c.priority, COUNT(c) FROM Complaint c " +
+            "WHERE c.assignedStaff IS NOT NULL AND c.status NOT IN ('RESOLVED', 'CLOSED') " +
+            "GROUP BY c.assignedStaff.id, c.priority")
+    List<Object[]> countOpenWorkloadByStaff();
+
+    // Resolution history per staff member and category (for auto-assignment skill)
+    @Query("SELECT c.assignedStaff.id, c.category, COUNT(c) FROM Complaint c " +
+            "WHERE c.assignedStaff IS NOT NULL AND c.status IN ('RESOLVED', 'CLOSED') " +
+            "GROUP BY c.assignedStaff.id, c.category")
+    List<Object[]> countResolvedByStaffAndCategory();
+
+    // Scalar state for conditional and bulk updates
+    @Query("SELECT new com.cms.dto.ComplaintSnapshot(c.id, c.status, c.priority, c.category, c.sentiment, " +
+            "c.createdAt, c.slaDeadline, s.id, c.version, c.escalationLevel) " +
+            "FROM Complaint c LEFT JOIN c.assignedStaff s WHERE c.id IN :ids")
+    List<ComplaintSnapshot> findSnapshotsByIds(@Param("ids") Collection<String> ids);
+
+    // Set-based status transition; rows no longer in the expected status are skipped
+    @Modifying
+    @Query("UPDATE Complaint c SET c.status = :to, c.updatedAt = :now, c.version = c.version + 1 " +
+            "WHERE c.id IN :ids AND c.status = :from")
+    int transitionStatus(
+            @Param("ids") Collection<String> ids,
+            @Param("from") ComplaintStatus from,
+            @Param("to") ComplaintStatus to,
+            @Param("now") LocalDateTime now);
+
+    // Same transition, returning the ids this statement actually changed
+    @Query(value = "UPDATE complaints SET status = :to, updated_at = :now, version = version + 1 " +
+            "WHERE id IN (:ids) AND status = :from RETURNING id",
+            nativeQuery = true)
+    List<String> transitionStatusReturningIds(
+            @Param("ids") Collection<String> ids,
+            @Param("from") String from,
+            @Param("to") String to,
+            @Param("now") LocalDateTime now);
+
+    // Set-based assignment of complaints still in the expected status and assignee,
+    // returning the ids this statement actually changed
+    @Query(value = "UPDATE complaints SET assigned_to = :staffId, status = :to, updated_at = :now, " +
+            "version = version + 1 " +
+            "WHERE id IN (:ids) AND status = :from " +
+            "AND assigned_to IS NOT DISTINCT FROM CAST(:previousStaffId AS VARCHAR) RETURNING id",
+            nativeQuery = true)
+    List<String> assignReturningIds(
+            @Param("ids") Collection<String> ids,
+            @Param("from") String from,
+            @Param("previousStaffId") String previousStaffId,
+            @Param("staffId") String staffId,
+            @Param("to") String to,
+            @Param("now") LocalDateTime now);
+
+    // Single assignment, applied only if nobody else changed the complaint since it was read
+    @Modifying
+    @Query("UPDATE Complaint c SET c.assignedStaff = :staff, c.status = :status, c.updatedAt = :now, " +
+            "c.version = c.version + 1 " +
+            "WHERE c.id = :id AND c.version = :version")
+    int assignIfVersion(
+            @Param("id") String id,
+            @Param("version") Long version,
+            @Param("staff") User staff,
+            @Param("status") ComplaintStatus status,
+            @Param("now") LocalDateTime now);
+
+    // Escalation level change, applied only if status and level are still the ones the SLA job saw
+    @Modifying
+    @Query("UPDATE Complaint c SET c.escalationLevel = :level, c.status = :status, " +
+            "c.nextEscalationAt = :nextAt, c.updatedAt = :now, c.version = c.version + 1 " +
+            "WHERE c.id = :id AND c.status = :expected AND COALESCE(c.escalationLevel, 0) = :expectedLevel")
+    int escalateIfUnchanged(
+            @Param("id") String id,
+            @Param("expected") ComplaintStatus expected,
+            @Param("expectedLevel") int expectedLevel,
+            @Param("level") int level,
+            @Param("status") ComplaintStatus status,
+            @Param("nextAt") LocalDateTime nextAt,
+            @Param("now") LocalDateTime now);
+
+    // Move the escalation due time without touching the complaint itself
+    @Modifying
+    @Query("UPDATE Complaint c SET c.nextEscalationAt = :nextAt " +
+            "WHERE c.id = :id AND COALESCE(c.escalationLevel, 0) = :expectedLevel")
+    int rescheduleEscalation(
+            @Param("id") String id,
+            @Param("expectedLevel") int expectedLevel,
+            @Param("nextAt") LocalDateTime nextAt);
 }
@@ -0,0 +1,112 @@
+package com.cms.repository;
+
+import com.cms.model.ComplaintRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Complaint Rollup Repository - Data access layer for report buckets.
+ * 
+ * Writes are PostgreSQL upserts so concurrent transactions add to the same
+ * bucket without read-modify-write races. Reads aggregate over the bucket
+ * rows in range; hourly and daily rows never cover the same hour.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Repository
+public interface ComplaintRollupRepository extends JpaRepository<ComplaintRollup, ComplaintRollup.Key> {
+
+    // Add deltas to an hourly bucket, creating it if needed
+    @Modifying
+    @Query(value = "INSERT INTO complaint_rollups " +
+            "(granularity, bucket_start, category, priority, sentiment, created, resolved, breached, " +
+            "resolution_seconds, resolved_within_sla, first_responses, first_response_seconds) " +
+            "VALUES ('HOUR', :bucketStart, :category, :priority, :sentiment, :created, :resolved, :breached, " +
+            ":resolutionSeconds, :resolvedWithinSla, :firstResponses, :firstResponseSeconds) " +
+            "ON CONFLICT (granularity, bucket_start, category, priority, sentiment) DO UPDATE SET " +
+            "created = complaint_rollups.created + EXCLUDED.created, " +
+            "resolved = complaint_rollups.resolved + EXCLUDED.resolved, " +
+            "breached = complaint_rollups.breached + EXCLUDED.breached, " +
+            "resolution_seconds = complaint_rollups.resolution_seconds + EXCLUDED.resolution_seconds, " +
+            "resolved_within_sla = complaint_rollups.resolved_within_sla + EXCLUDED.resolved_within_sla, " +
+            "first_responses = complaint_rollups.first_responses + EXCLUDED.first_responses, " +
+            "first_response_seconds = complaint_rollups.first_response_seconds + EXCLUDED.first_response_seconds",
+            nativeQuery = true)
+    void addToHourBucket(
+            @Param("bucketStart") LocalDateTime bucketStart,
+            @Param("category") String category,
+            @Param("priority") String priority,
+            @Param("sentiment") String sentiment,
+            @Param("created") long created,
+            @Param("resolved") long resolved,
+            @Param("breached") long breached,
+            @Param("resolutionSeconds") long resolutionSeconds,
+            @Param("resolvedWithinSla") long resolvedWithinSla,
+            @Param("firstResponses") long firstResponses,
+            @Param("firstResponseSeconds") long firstResponseSeconds);
+
+    // Move hourly buckets older than the cutoff into daily buckets in one statement.
+    // Each hourly row is deleted exactly once, so concurrent runs on several
+    // nodes cannot add the same hour to a day twice.
+    @Modifying
+    @Query(value = "WITH moved AS (" +
+            "DELETE FROM complaint_rollups WHERE granularity = 'HOUR' AND bucket_start < :cutoff " +
+            "RETURNING bucket_start, category, priority, sentiment, created, resolved, breached, " +
+            "resolution_seconds, resolved_within_sla, first_responses, first_response_seconds) " +
+            "INSERT INTO complaint_rollups " +
+            "(granularity, bucket_start, category, priority, sentiment, created, resolved, breached, " +
+            "resolution_seconds, resolved_within_sla, first_responses, first_response_seconds) " +
+            "SELECT 'DAY', date_trunc('day', bucket_start), category, priority, sentiment, " +
+            "SUM(created), SUM(resolved), SUM(breached), " +
+            "SUM(resolution_seconds), SUM(resolved_within_sla), SUM(first_responses), SUM(first_response_seconds) " +
+            "FROM moved " +
+            "GROUP BY date_trunc('day', bucket_start), category, priority, sentiment " +
+            "ON CONFLICT (granularity, bucket_start, category, priority, sentiment) DO UPDATE SET " +
+            "created = complaint_rollups.created + EXCLUDED.created, " +
+            "resolved = complaint_rollups.resolved + EXCLUDED.resolved, " +
+            "breached = complaint_rollups.breached + EXCLUDED.breached, " +
+            "resolution_seconds = complaint_rollups.resolution_seconds + EXCLUDED.resolution_seconds, " +
+            "resolved_within_sla = complaint_rollups.resolved_within_sla + EXCLUDED.resolved_within_sla, " +
+            "first_responses = complaint_rollups.first_responses + EXCLUDED.first_responses, " +
+            "first_response_seconds = complaint_rollups.first_response_seconds + EXCLUDED.first_response_seconds",
+            nativeQuery = true)
+    int moveHoursToDaysBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // Time series: totals per bucket start
+    @Query("SELECT r.bucketStart, SUM(r.created), SUM(r.resolved), SUM(r.breached) " +
+            "FROM ComplaintRollup r WHERE r.bucketStart >= :start AND r.bucketStart < :end " +
+            "GROUP BY r.bucketStart ORDER BY r.bucketStart")
+    List<Object[]> sumByBucket(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // Range totals by category
+    @Query("SELECT r.category, SUM(r.created), SUM(r.resolved), SUM(r.breached) " +
+            "FROM ComplaintRollup r WHERE r.bucketStart >= :start AND r.bucketStart < :end " +
+            "GROUP BY r.category")
+    List<Object[]> sumByCategory(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // Range totals by priority
+    @Query("SELECT r.priority, SUM(r.created), SUM(r.resolved), SUM(r.breached) " +
+            "FROM ComplaintRollup r WHERE r.bucketStart >= :start AND r.bucketStart < :end " +
+            "GROUP BY r.priority")
+    List<Object[]> sumByPriority(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // Range totals by sentiment
+    @Query("SELECT r.sentiment, SUM(r.created), SUM(r.resolved), SUM(r.breached) " +
+            "FROM ComplaintRollup r WHERE r.bucketStart >= :start AND r.bucketStart < :end " +
+            "GROUP BY r.sentiment")
+    List<Object[]> sumBySentiment(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // Resolution totals since a bucket start: resolved, resolution seconds,
+    // resolved within SLA, first responses, first-response seconds
+    @Query("SELECT SUM(r.resolved), SUM(r.resolutionSeconds), SUM(r.resolvedWithinSla), " +
+            "SUM(r.firstResponses), SUM(r.firstResponseSeconds) " +
+            "FROM ComplaintRollup r WHERE r.bucketStart >= :since")
+    List<Object[]> sumResolutionTotals(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,15 @@
+package com.cms.repository;
+
+import com.cms.model.SlaPolicyRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * SLA Policy Rule Repository - Data access layer for SLA policy rules.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Repository
+public interface SlaPolicyRuleRepository extends JpaRepository<SlaPolicyRule, Long> {
+}
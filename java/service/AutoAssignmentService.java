@@ -0,0 +1,299 @@
+package com.cms.service;
+
+import com.cms.model.Complaint;
+import com.cms.model.Complaint.*;
+import com.cms.model.ComplaintEvent;
+import com.cms.model.ComplaintEvent.EventType;
+import com.cms.model.User;
+import com.cms.repository.ComplaintRepository;
+import com.cms.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Auto Assignment Service - Workload-aware complaint routing.
+ * 
+ * Keeps an in-memory view of every active staff member's open workload
+ * (weighted by priority, i.e. SLA urgency) and per-category resolution
+ * history. One ordered queue per category ranks staff by
+ * workload minus a category skill bonus, so picking an assignee at intake
+ * is O(log n). The view is updated on every assign/resolve and rebuilt
+ * from the database periodically to absorb drift (staff changes, missed
+ * updates from other nodes).
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AutoAssignmentService {
+
+    private final ComplaintRepository complaintRepository;
+    private final UserRepository userRepository;
+    private final ComplaintEventService eventService;
+
+    @Value("${cms.assignment.auto-enabled:true}")
+    private boolean autoAssignEnabled;
+
+    // How many weighted open complaints a perfect category match is worth
+    @Value("${cms.assignment.skill-weight:4.0}")
+    private double skillWeight;
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    // SLA urgency weight per open complaint, indexed by Priority ordinal
+    private static final int[] PRIORITY_WEIGHT = { 1, 2, 4, 8 }; // LOW, MEDIUM, HIGH, CRITICAL
+
+    // Guarded by this
+    private Map<String, StaffLoad> staffById = new HashMap<>();
+    private EnumMap<Category, TreeSet<StaffLoad>> queues = new EnumMap<>(Category.class);
+
+    public boolean isAutoAssignEnabled() {
+        return autoAssignEnabled;
+    }
+
+    /**
+     * Pick the best staff member for a new complaint and count it against them.
+     * The reservation is undone if the surrounding transaction rolls back.
+     */
+    public synchronized Optional<String> reserve(Category category, Priority priority) {
+        TreeSet<StaffLoad> queue = queues.get(category);
+        if (queue == null || queue.isEmpty()) {
+            return Optional.empty();
+        }
+
+        StaffLoad best = queue.first();
+        adjust(best, priority, 1);
+        afterRollback(() -> release(best.id, priority));
+
+        return Optional.of(best.id);
+    }
+
+    /**
+     * Record a manual assignment of an open complaint.
+     */
+    public synchronized void onAssigned(String staffId, Priority priority) {
+        StaffLoad staff = staffById.get(staffId);
+        if (staff != null) {
+            adjust(staff, priority, 1);
+            afterRollback(() -> release(staffId, priority));
+        }
+    }
+
+    /**
+     * Record that an open complaint left a staff member's queue
+     * (resolved, closed or reassigned).
+     */
+    public synchronized void onReleased(String staffId, Priority priority, Category category, boolean resolved) {
+        StaffLoad staff = staffById.get(staffId);
+        if (staff == null) {
+            return;
+        }
+
+        reorder(staff, () -> {
+            staff.open[priority.ordinal()]--;
+            if (resolved) {
+                staff.resolvedByCategory[category.ordinal()]++;
+                staff.totalResolved++;
+            }
+        });
+
+        afterRollback(() -> {
+            synchronized (this) {
+                StaffLoad current = staffById.get(staffId);
+                if (current != null) {
+                    reorder(current, () -> {
+                        current.open[priority.ordinal()]++;
+                        if (resolved) {
+                            current.resolvedByCategory[category.ordinal()]--;
+                            current.totalResolved--;
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    /**
+     * Redistribute all not-yet-started complaints (NEW and ASSIGNED) across
+     * active staff, most urgent SLA first.
+     */
+    @Transactional
+    public RebalanceResult rebalance() {
+        List<Complaint> pending = complaintRepository.findByStatusInOrderBySlaDeadlineAsc(
+                List.of(ComplaintStatus.NEW, ComplaintStatus.ASSIGNED));
+
+        int reassigned = 0;
+        int unassigned = 0;
+        List<ComplaintEvent> events = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        synchronized (this) {
+            // Take every pending complaint off its current owner first
+            for (Complaint complaint : pending) {
+                if (complaint.getAssignedStaff() != null) {
+                    StaffLoad owner = staffById.get(complaint.getAssignedStaff().getId());
+                    if (owner != null) {
+                        adjust(owner, complaint.getPriority(), -1);
+                    }
+                }
+            }
+
+            for (Complaint complaint : pending) {
+                TreeSet<StaffLoad> queue = queues.get(complaint.getCategory());
+                if (queue == null || queue.isEmpty()) {
+                    unassigned++;
+                    continue;
+                }
+
+                StaffLoad best = queue.first();
+                adjust(best, complaint.getPriority(), 1);
+
+                String previous = complaint.getAssignedStaff() != null ? complaint.getAssignedStaff().getId() : null;
+                if (!best.id.equals(previous)) {
+                    events.add(eventService.newEvent(EventType.ASSIGNED, complaint,
+                            complaint.getStatus(), ComplaintStatus.ASSIGNED, best.id, now));
+                    complaint.setAssignedStaff(userRepository.getReferenceById(best.id));
+                    complaint.setStatus(ComplaintStatus.ASSIGNED);
+                    reassigned++;
+                }
+            }
+        }
+
+        eventService.recordAll(events);
+
+        // In-memory state no longer matches the database after a rollback
+        afterRollback(this::refresh);
+
+        log.info("Rebalanced {} pending complaints: {} reassigned, {} without eligible staff",
+                pending.size(), reassigned, unassigned);
+        return new RebalanceResult(pending.size(), reassigned, unassigned);
+    }
+
+    /**
+     * Rebuild the workload view from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedRateString = "${cms.assignment.refresh-ms:900000}", initialDelayString = "${cms.assignment.refresh-ms:900000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        Map<String, StaffLoad> loads = new HashMap<>();
+        for (User staff : userRepository.findActiveStaff()) {
+            loads.put(staff.getId(), new StaffLoad(staff.getId()));
+        }
+
+        for (Object[] row : complaintRepository.countOpenWorkloadByStaff()) {
+            StaffLoad staff = loads.get((String) row[0]);
+            if (staff != null) {
+                staff.open[((Priority) row[1]).ordinal()] = ((Long) row[2]).intValue();
+            }
+        }
+
+        for (Object[] row : complaintRepository.countResolvedByStaffAndCategory()) {
+            StaffLoad staff = loads.get((String) row[0]);
+            if (staff != null) {
+                int count = ((Long) row[2]).intValue();
+                staff.resolvedByCategory[((Category) row[1]).ordinal()] = count;
+                staff.totalResolved += count;
+            }
+        }
+
+        EnumMap<Category, TreeSet<StaffLoad>> rebuilt = new EnumMap<>(Category.class);
+        for (Category category : CATEGORIES) {
+            int c = category.ordinal();
+            rebuilt.put(category, new TreeSet<>(Comparator
+                    .comparingDouble((StaffLoad s) -> s.score[c])
+                    .thenComparing(s -> s.id)));
+        }
+        for (StaffLoad staff : loads.values()) {
+            staff.recompute(skillWeight);
+            for (TreeSet<StaffLoad> queue : rebuilt.values()) {
+                queue.add(staff);
+            }
+        }
+
+        synchronized (this) {
+            staffById = loads;
+            queues = rebuilt;
+        }
+
+        log.info("Auto-assignment view rebuilt for {} active staff", loads.size());
+    }
+
+    private synchronized void release(String staffId, Priority priority) {
+        StaffLoad staff = staffById.get(staffId);
+        if (staff != null) {
+            adjust(staff, priority, -1);
+        }
+    }
+
+    private void adjust(StaffLoad staff, Priority priority, int delta) {
+        reorder(staff, () -> staff.open[priority.ordinal()] += delta);
+    }
+
+    // Scores are part of the TreeSet ordering: remove, mutate, re-insert
+    private void reorder(StaffLoad staff, Runnable change) {
+        for (TreeSet<StaffLoad> queue : queues.values()) {
+            queue.remove(staff);
+        }
+        change.run();
+        staff.recompute(skillWeight);
+        for (TreeSet<StaffLoad> queue : queues.values()) {
+            queue.add(staff);
+        }
+    }
+
+    private void afterRollback(Runnable undo) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        undo.run();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Mutable workload snapshot of one staff member.
+     */
+    private static final class StaffLoad {
+        final String id;
+        final int[] open = new int[Priority.values().length];
+        final int[] resolvedByCategory = new int[CATEGORIES.length];
+        final double[] score = new double[CATEGORIES.length];
+        int totalResolved;
+
+        StaffLoad(String id) {
+            this.id = id;
+        }
+
+        void recompute(double skillWeight) {
+            int load = 0;
+            for (int p = 0; p < open.length; p++) {
+                load += Math.max(open[p], 0) * PRIORITY_WEIGHT[p];
+            }
+            for (int c = 0; c < score.length; c++) {
+                double skill = totalResolved > 0 ? (double) resolvedByCategory[c] / totalResolved : 0;
+                score[c] = load - skillWeight * skill;
+            }
+        }
+    }
+
+    public record RebalanceResult(int pending, int reassigned, int unassigned) {
+    }
+}
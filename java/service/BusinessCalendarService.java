@@ -0,0 +1,383 @@
+package com.cms.service;
+
+import com.cms.model.Complaint.Category;
+import com.cms.model.Complaint.Priority;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.*;
+import java.util.*;
+
+/**
+ * Business Calendar Service - Working-time arithmetic for SLA deadlines.
+ * 
+ * Each team calendar (cms.sla.calendars.<name>) has a timezone, weekly
+ * shifts and holidays, and serves the categories listed for it; the
+ * "default" calendar serves the rest. Calendars are precomputed over a
+ * horizon of days into a long[] of cumulative working minutes at each day
+ * start plus per-day shift boundaries, so:
+ * 
+ *   elapsed working time  = two array lookups
+ *   start + N working min = one binary search over days
+ * 
+ * which is cheap enough to run for every complaint in the SLA scan.
+ * Timestamps outside the horizon are extrapolated from the weekly shifts.
+ * Without any configuration the default calendar is 24x7, which keeps
+ * plain wall-clock deadlines. Priorities in cms.sla.calendar.always-on-priorities
+ * (CRITICAL by default) always run on the clock.
+ * 
+ * Example:
+ *   cms.sla.calendars.default.zone=Europe/Berlin
+ *   cms.sla.calendars.default.shifts=MON-FRI 08:00-18:00,SAT 09:00-13:00
+ *   cms.sla.calendars.default.holidays=2026-12-25,2026-12-26
+ *   cms.sla.calendars.security.shifts=MON-SUN 00:00-24:00
+ *   cms.sla.calendars.security.categories=SECURITY
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BusinessCalendarService {
+
+    private final Environment environment;
+
+    @Value("${cms.sla.calendar.always-on-priorities:CRITICAL}")
+    private Set<Priority> alwaysOnPriorities;
+
+    @Value("${cms.sla.calendar.horizon-past-days:730}")
+    private int horizonPastDays;
+
+    @Value("${cms.sla.calendar.horizon-future-days:1095}")
+    private int horizonFutureDays;
+
+    private static final String DEFAULT_CALENDAR = "default";
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private volatile Calendars calendars = defaultCalendars();
+
+    /**
+     * Deadline that lies the given number of working minutes after start.
+     */
+    public LocalDateTime addWorkingMinutes(Category category, Priority priority, LocalDateTime start, long minutes) {
+        if (alwaysOnPriorities.contains(priority)) {
+            return start.plusMinutes(minutes);
+        }
+        return calendars.forCategory(category).plusWorkingMinutes(start, minutes);
+    }
+
+    /**
+     * Working minutes between two instants (negative if end is before start).
+     */
+    public long workingMinutesBetween(Category category, Priority priority, LocalDateTime start, LocalDateTime end) {
+        if (alwaysOnPriorities.contains(priority)) {
+            return Duration.between(start, end).toMinutes();
+        }
+        WorkingCalendar calendar = calendars.forCategory(category);
+        return calendar.workingMinutesBefore(end) - calendar.workingMinutesBefore(start);
+    }
+
+    /**
+     * Rebuild all calendars from configuration, sliding the horizon forward.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${cms.sla.calendar.rebuild-cron:0 5 0 * * *}")
+    public void rebuild() {
+        Map<String, CalendarDefinition> definitions = Binder.get(environment)
+                .bind("cms.sla.calendars", Bindable.mapOf(String.class, CalendarDefinition.class))
+                .orElse(Map.of());
+
+        LocalDate today = LocalDate.now();
+        Map<String, WorkingCalendar> byName = new HashMap<>();
+        EnumMap<Category, WorkingCalendar> byCategory = new EnumMap<>(Category.class);
+        for (Map.Entry<String, CalendarDefinition> entry : definitions.entrySet()) {
+            WorkingCalendar calendar = WorkingCalendar.build(entry.getValue(),
+                    today.minusDays(horizonPastDays), today.plusDays(horizonFutureDays));
+            byName.put(entry.getKey(), calendar);
+            for (Category category : entry.getValue().getCategories()) {
+                byCategory.put(category, calendar);
+            }
+        }
+
+        WorkingCalendar fallback = byName.getOrDefault(DEFAULT_CALENDAR, defaultCalendars().fallback());
+        calendars = new Calendars(byCategory, fallback);
+        log.info("Business calendars rebuilt: {}", byName.isEmpty() ? "24x7 default" : byName.keySet());
+    }
+
+    private static Calendars defaultCalendars() {
+        CalendarDefinition alwaysOpen = new CalendarDefinition();
+        alwaysOpen.setShifts(List.of("MON-SUN 00:00-24:00"));
+        LocalDate today = LocalDate.now();
+        return new Calendars(new EnumMap<>(Category.class),
+                WorkingCalendar.build(alwaysOpen, today.minusDays(730), today.plusDays(1095)));
+    }
+
+    private record Calendars(EnumMap<Category, WorkingCalendar> byCategory, WorkingCalendar fallback) {
+        WorkingCalendar forCategory(Category category) {
+            WorkingCalendar calendar = category != null ? byCategory.get(category) : null;
+            return calendar != null ? calendar : fallback;
+        }
+    }
+
+    /**
+     * Bound from cms.sla.calendars.<name>.
+     */
+    @Data
+    public static class CalendarDefinition {
+        private String zone;
+        private List<String> shifts = new ArrayList<>();
+        private List<LocalDate> holidays = new ArrayList<>();
+        private List<Category> categories = new ArrayList<>();
+    }
+
+    /**
+     * One precomputed calendar. Day i is firstDay + i in the calendar's zone;
+     * cumulative[i] is the working minutes in days [0, i); dayShifts[i] holds
+     * that day's shift boundaries as (start, end) minute-of-day pairs. Days
+     * outside the horizon follow the weekly shifts, without holidays.
+     */
+    private static final class WorkingCalendar {
+        private final ZoneId zone;
+        private final long firstEpochDay;
+        private final long[] cumulative;
+        private final int[][] dayShifts;
+        private final int[][] weekly;
+        private final long weekMinutes;
+
+        private WorkingCalendar(ZoneId zone, long firstEpochDay, long[] cumulative, int[][] dayShifts,
+                int[][] weekly) {
+            this.zone = zone;
+            this.firstEpochDay = firstEpochDay;
+            this.cumulative = cumulative;
+            this.dayShifts = dayShifts;
+            this.weekly = weekly;
+            long total = 0;
+            for (int[] shifts : weekly) {
+                total += minutesIn(shifts);
+            }
+            this.weekMinutes = total;
+        }
+
+        static WorkingCalendar build(CalendarDefinition definition, LocalDate from, LocalDate to) {
+            ZoneId zone = definition.getZone() != null ? ZoneId.of(definition.getZone()) : ZoneId.systemDefault();
+            int[][] weekly = parseShifts(definition.getShifts());
+            Set<LocalDate> holidays = new HashSet<>(definition.getHolidays());
+
+            int days = (int) (to.toEpochDay() - from.toEpochDay());
+            long[] cumulative = new long[days + 1];
+            int[][] dayShifts = new int[days][];
+            for (int i = 0; i < days; i++) {
+                LocalDate date = from.plusDays(i);
+                dayShifts[i] = holidays.contains(date) ? new int[0] : weekly[date.getDayOfWeek().ordinal()];
+                cumulative[i + 1] = cumulative[i] + minutesIn(dayShifts[i]);
+            }
+            return new WorkingCalendar(zone, from.toEpochDay(), cumulative, dayShifts, weekly);
+        }
+
+        long workingMinutesBefore(LocalDateTime serverTime) {
+            LocalDateTime local = toCalendarTime(serverTime);
+            long day = local.toLocalDate().toEpochDay() - firstEpochDay;
+
+            int minute = local.getHour() * 60 + local.getMinute();
+            long worked = cumulativeAt(day);
+            int[] shifts = shiftsOf(day);
+            for (int s = 0; s < shifts.length; s += 2) {
+                worked += Math.max(0, Math.min(minute, shifts[s + 1]) - shifts[s]);
+            }
+            return worked;
+        }
+
+        LocalDateTime plusWorkingMinutes(LocalDateTime serverStart, long minutes) {
+            if (minutes <= 0) {
+                return serverStart;
+            }
+            long target = workingMinutesBefore(serverStart) + minutes;
+            int last = cumulative.length - 1;
+            if ((target > cumulative[last] || target <= 0) && weekMinutes == 0) {
+                // No weekly working time to extrapolate from
+                log.warn("Business calendar has no working time beyond its horizon, using wall-clock time for {}",
+                        serverStart);
+                return serverStart.plusMinutes(minutes);
+            }
+
+            // Smallest j with cumulativeAt(j) >= target; the target minute falls in day j - 1
+            long low;
+            long high;
+            if (target > cumulative[last]) {
+                // Beyond the horizon: jump whole weeks, then step day by day
+                low = last + (target - cumulative[last] - 1) / weekMinutes * 7;
+                while (cumulativeAt(low + 1) < target) {
+                    low++;
+                }
+                high = low + 1;
+            } else if (target <= 0) {
+                // Before the horizon: land at least a week early, then step forward
+                high = -(-target / weekMinutes + 1) * 7;
+                while (cumulativeAt(high) < target) {
+                    high++;
+                }
+                low = high;
+            } else {
+                low = 1;
+                high = last;
+            }
+            while (low < high) {
+                long mid = (low + high) >>> 1;
+                if (cumulativeAt(mid) >= target) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            long day = low - 1;
+
+            long remaining = target - cumulativeAt(day);
+            int[] shifts = shiftsOf(day);
+            int minuteOfDay = 0;
+            for (int s = 0; s < shifts.length; s += 2) {
+                int length = shifts[s + 1] - shifts[s];
+                if (remaining <= length) {
+                    minuteOfDay = shifts[s] + (int) remaining;
+                    break;
+                }
+                remaining -= length;
+            }
+
+            LocalDateTime local = LocalDate.ofEpochDay(firstEpochDay + day).atStartOfDay().plusMinutes(minuteOfDay);
+            return local.atZone(zone).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        }
+
+        // Working minutes in days [0, day), negative before the horizon
+        private long cumulativeAt(long day) {
+            int last = cumulative.length - 1;
+            if (day < 0) {
+                return -weeklyMinutesBetween(day, 0);
+            }
+            if (day > last) {
+                return cumulative[last] + weeklyMinutesBetween(last, day);
+            }
+            return cumulative[(int) day];
+        }
+
+        private int[] shiftsOf(long day) {
+            if (day >= 0 && day < dayShifts.length) {
+                return dayShifts[(int) day];
+            }
+            return weekly[LocalDate.ofEpochDay(firstEpochDay + day).getDayOfWeek().ordinal()];
+        }
+
+        // Working minutes in days [from, to) by the weekly shifts alone
+        private long weeklyMinutesBetween(long from, long to) {
+            long days = to - from;
+            long total = days / 7 * weekMinutes;
+            for (long day = from + days / 7 * 7; day < to; day++) {
+                total += minutesIn(weekly[LocalDate.ofEpochDay(firstEpochDay + day).getDayOfWeek().ordinal()]);
+            }
+            return total;
+        }
+
+        private LocalDateTime toCalendarTime(LocalDateTime serverTime) {
+            return serverTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(zone).toLocalDateTime();
+        }
+
+        private static int minutesIn(int[] shifts) {
+            int total = 0;
+            for (int s = 0; s < shifts.length; s += 2) {
+                total += shifts[s + 1] - shifts[s];
+            }
+            return total;
+        }
+
+        // "MON-FRI 08:00-18:00", "SAT 09:00-13:00", "MON,WED 22:00-06:00" -> per weekday (start, end) pairs
+        private static int[][] parseShifts(List<String> specs) {
+            List<List<int[]>> perDay = new ArrayList<>();
+            for (int d = 0; d < 7; d++) {
+                perDay.add(new ArrayList<>());
+            }
+
+            for (String spec : specs) {
+                String[] parts = spec.trim().split("\\s+");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Invalid shift: " + spec);
+                }
+                String[] times = parts[1].split("-");
+                int start = parseMinute(times[0]);
+                int end = parseMinute(times[1]);
+
+                for (DayOfWeek day : parseDays(parts[0])) {
+                    if (end > start) {
+                        perDay.get(day.ordinal()).add(new int[] { start, end });
+                    } else {
+                        // Overnight: split at midnight
+                        perDay.get(day.ordinal()).add(new int[] { start, MINUTES_PER_DAY });
+                        perDay.get(day.plus(1).ordinal()).add(new int[] { 0, end });
+                    }
+                }
+            }
+
+            int[][] weekly = new int[7][];
+            for (int d = 0; d < 7; d++) {
+                List<int[]> intervals = perDay.get(d);
+                intervals.sort(Comparator.comparingInt(interval -> interval[0]));
+
+                // Merge overlaps so no minute is counted twice
+                List<int[]> merged = new ArrayList<>();
+                for (int[] interval : intervals) {
+                    int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+                    if (last != null && interval[0] <= last[1]) {
+                        last[1] = Math.max(last[1], interval[1]);
+                    } else {
+                        merged.add(new int[] { interval[0], interval[1] });
+                    }
+                }
+
+                weekly[d] = new int[merged.size() * 2];
+                for (int i = 0; i < merged.size(); i++) {
+                    weekly[d][i * 2] = merged.get(i)[0];
+                    weekly[d][i * 2 + 1] = merged.get(i)[1];
+                }
+            }
+            return weekly;
+        }
+
+        private static List<DayOfWeek> parseDays(String spec) {
+            List<DayOfWeek> days = new ArrayList<>();
+            for (String part : spec.split(",")) {
+                String[] range = part.split("-");
+                DayOfWeek first = parseDay(range[0]);
+                DayOfWeek last = range.length > 1 ? parseDay(range[1]) : first;
+                for (DayOfWeek day = first; ; day = day.plus(1)) {
+                    days.add(day);
+                    if (day == last) {
+                        break;
+                    }
+                }
+            }
+            return days;
+        }
+
+        private static DayOfWeek parseDay(String abbreviation) {
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if (day.name().startsWith(abbreviation.trim().toUpperCase(Locale.ROOT))) {
+                    return day;
+                }
+            }
+            throw new IllegalArgumentException("Invalid day: " + abbreviation);
+        }
+
+        private static int parseMinute(String time) {
+            String[] hm = time.trim().split(":");
+            return Integer.parseInt(hm[0]) * 60 + Integer.parseInt(hm[1]);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.cms.service;
+
+import com.cms.dto.CommentDTO;
+import com.cms.dto.CommentPage;
+import com.cms.dto.CommentRequest;
+import com.cms.model.Comment;
+import com.cms.model.Complaint;
+import com.cms.model.User;
+import com.cms.repository.CommentRepository;
+import com.cms.repository.ComplaintRepository;
+import com.cms.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Comment Service - Complaint discussion threads.
+ * 
+ * Reads threads with keyset paging and keeps the denormalized
+ * commentCount/lastActivityAt columns on Complaint up to date, so
+ * complaint list views never need to touch the comments table.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class CommentService {
+
+    private final CommentRepository commentRepository;
+    private final ComplaintRepository complaintRepository;
+    private final UserRepository userRepository;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Get one page of a complaint's comment thread, oldest first.
+     * Internal notes are only returned to ADMIN and STAFF users.
+     */
+    @Transactional(readOnly = true)
+    public CommentPage getThread(String complaintId, String cursor, int size, String viewerEmail) {
+        User viewer = findUser(viewerEmail);
+        Complaint complaint = findComplaint(complaintId);
+        checkAccess(complaint, viewer);
+
+        int limit = size > 0 ? Math.min(size, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        boolean includeInternal = isStaff(viewer);
+
+        // Fetch one extra row to know whether another page exists
+        PageRequest window = PageRequest.of(0, limit + 1);
+        List<CommentDTO> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findThread(complaintId, includeInternal, window);
+        } else {
+            Cursor after = decodeCursor(cursor);
+            comments = commentRepository.findThreadAfter(
+                    complaintId, includeInternal, after.createdAt(), after.id(), window);
+        }
+
+        String nextCursor = null;
+        if (comments.size() > limit) {
+            comments = comments.subList(0, limit);
+            CommentDTO last = comments.get(limit - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+
+        return CommentPage.builder()
+                .comments(comments)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Add a comment to a complaint.
+     * Customers can only comment on their own complaints and never post internal notes.
+     */
+    public CommentDTO addComment(String complaintId, CommentRequest request, String authorEmail) {
+        User author = findUser(authorEmail);
+        Complaint complaint = findComplaint(complaintId);
+        checkAccess(complaint, author);
+
+        boolean internal = request.isInternal() && isStaff(author);
+
+        Comment comment = Comment.builder()
+                .complaint(complaint)
+                .author(author)
+                .content(request.getContent())
+                .internal(internal)
+                .build();
+
+        Comment saved = commentRepository.save(comment);
+
+        if (!internal) {
+            complaintRepository.recordCommentActivity(complaintId, saved.getCreatedAt());
+        }
+
+        log.info("Added {} comment {} to complaint {}",
+                internal ? "internal" : "public", saved.getId(), complaintId);
+
+        return CommentDTO.builder()
+                .id(saved.getId())
+                .complaintId(complaintId)
+                .authorId(author.getId())
+                .authorName(author.getName())
+                .authorRole(author.getRole())
+                .content(saved.getContent())
+                .internal(saved.isInternal())
+                .createdAt(saved.getCreatedAt())
+                .build();
+    }
+
+    private User findUser(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
+    private Complaint findComplaint(String complaintId) {
+        return complaintRepository.findById(complaintId)
+                .orElseThrow(() -> new RuntimeException("Complaint not found: " + complaintId));
+    }
+
+    // Customers may only see threads of their own complaints
+    private void checkAccess(Complaint complaint, User user) {
+        if (!isStaff(user) && !complaint.getCustomer().getId().equals(user.getId())) {
+            throw new RuntimeException("Access denied to complaint " + complaint.getId());
+        }
+    }
+
+    private boolean isStaff(User user) {
+        return user.getRole() == User.UserRole.ADMIN || user.getRole() == User.UserRole.STAFF;
+    }
+
+    // Opaque cursor: base64url("<createdAt>|<id>")
+    private String encodeCursor(LocalDateTime createdAt, String id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid comment cursor");
+        }
+    }
+
+    private record Cursor(LocalDateTime createdAt, String id) {
+    }
+}
@@ -0,0 +1,236 @@
+package com.cms.service;
+
+import com.cms.model.Complaint.Category;
+import com.cms.model.Complaint.Priority;
+import com.cms.repository.ComplaintRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Complaint Classifier Service - Suggests category and priority for draft complaints.
+ * 
+ * Two multinomial naive Bayes models (category, priority) over hashed word
+ * unigrams and bigrams, trained only on complaints whose category and
+ * priority staff have confirmed or corrected (ComplaintService.reclassify),
+ * never on the labels customers picked themselves. Log-probabilities are held in one
+ * flat float[] per model, laid out feature-major so scoring a feature reads
+ * all classes from one cache line; inference is a few array reads per
+ * token with no allocation beyond the score array.
+ * 
+ * Training runs on the scheduler thread, builds a new immutable model and
+ * swaps it in, so requests are never blocked and always see a complete model.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ComplaintClassifierService {
+
+    private final ComplaintRepository complaintRepository;
+
+    // Below this many training complaints no suggestion is made
+    @Value("${cms.classifier.min-training-size:200}")
+    private int minTrainingSize;
+
+    private static final int FEATURE_BITS = 18;
+    private static final int FEATURES = 1 << FEATURE_BITS;
+    private static final float SMOOTHING = 1.0f;
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private volatile TrainedModels models;
+
+    /**
+     * Suggested category and priority with confidences, once a model is trained.
+     */
+    public Optional<Suggestion> suggest(String title, String description) {
+        TrainedModels current = models;
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        int[] features = features(title, description);
+        double[] categoryScores = current.category.posterior(features);
+        double[] priorityScores = current.priority.posterior(features);
+        int category = argMax(categoryScores);
+        int priority = argMax(priorityScores);
+
+        return Optional.of(new Suggestion(
+                CATEGORIES[category], categoryScores[category],
+                PRIORITIES[priority], priorityScores[priority],
+                current.trainedAt));
+    }
+
+    /**
+     * Retrain both models from historic complaints and swap them in.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${cms.classifier.retrain-cron:0 30 3 * * *}")
+    @Transactional(readOnly = true)
+    public void retrain() {
+        Trainer categoryTrainer = new Trainer(CATEGORIES.length);
+        Trainer priorityTrainer = new Trainer(PRIORITIES.length);
+
+        try (Stream<Object[]> rows = complaintRepository.streamTrainingSet()) {
+            rows.forEach(row -> {
+                int[] features = features((String) row[0], (String) row[1]);
+                categoryTrainer.add(((Category) row[2]).ordinal(), features);
+                priorityTrainer.add(((Priority) row[3]).ordinal(), features);
+            });
+        }
+
+        if (categoryTrainer.documents < minTrainingSize) {
+            log.info("Classifier not trained: {} complaints available, {} required",
+                    categoryTrainer.documents, minTrainingSize);
+            return;
+        }
+
+        models = new TrainedModels(categoryTrainer.build(), priorityTrainer.build(), LocalDateTime.now());
+        log.info("Classifier retrained on {} complaints", categoryTrainer.documents);
+    }
+
+    // Hashed unigram and bigram feature indices of title + description
+    private static int[] features(String title, String description) {
+        String text = (title == null ? "" : title) + " " + (description == null ? "" : description);
+        String[] tokens = text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+");
+
+        int[] features = new int[tokens.length * 2];
+        int count = 0;
+        int previous = 0;
+        boolean hasPrevious = false;
+        for (String token : tokens) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            int hash = token.hashCode();
+            features[count++] = bucket(hash);
+            if (hasPrevious) {
+                features[count++] = bucket(previous * 31 + hash + 0x632be5ab);
+            }
+            previous = hash;
+            hasPrevious = true;
+        }
+        return count == features.length ? features : Arrays.copyOf(features, count);
+    }
+
+    private static int bucket(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return hash & (FEATURES - 1);
+    }
+
+    private static int argMax(double[] values) {
+        int best = 0;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] > values[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Feature and document counts for one label set.
+     */
+    private static final class Trainer {
+        final int classes;
+        final int[] counts;           // feature-major: [feature * classes + class]
+        final long[] featureTotals;   // per class
+        final long[] documentsPerClass;
+        long documents;
+
+        Trainer(int classes) {
+            this.classes = classes;
+            this.counts = new int[FEATURES * classes];
+            this.featureTotals = new long[classes];
+            this.documentsPerClass = new long[classes];
+        }
+
+        void add(int label, int[] features) {
+            for (int feature : features) {
+                counts[feature * classes + label]++;
+            }
+            featureTotals[label] += features.length;
+            documentsPerClass[label]++;
+            documents++;
+        }
+
+        NaiveBayes build() {
+            float[] logLikelihood = new float[counts.length];
+            double[] denominators = new double[classes];
+            for (int c = 0; c < classes; c++) {
+                denominators[c] = Math.log(featureTotals[c] + SMOOTHING * FEATURES);
+            }
+            for (int f = 0; f < FEATURES; f++) {
+                int base = f * classes;
+                for (int c = 0; c < classes; c++) {
+                    logLikelihood[base + c] = (float) (Math.log(counts[base + c] + SMOOTHING) - denominators[c]);
+                }
+            }
+
+            double[] logPrior = new double[classes];
+            for (int c = 0; c < classes; c++) {
+                logPrior[c] = Math.log((documentsPerClass[c] + SMOOTHING) / (documents + SMOOTHING * classes));
+            }
+            return new NaiveBayes(classes, logPrior, logLikelihood);
+        }
+    }
+
+    /**
+     * Immutable trained model for one label set.
+     */
+    private record NaiveBayes(int classes, double[] logPrior, float[] logLikelihood) {
+
+        // Normalized class probabilities (softmax of the log-joint scores)
+        double[] posterior(int[] features) {
+            double[] scores = logPrior.clone();
+            for (int feature : features) {
+                int base = feature * classes;
+                for (int c = 0; c < classes; c++) {
+                    scores[c] += logLikelihood[base + c];
+                }
+            }
+
+            double max = Double.NEGATIVE_INFINITY;
+            for (double score : scores) {
+                max = Math.max(max, score);
+            }
+            double sum = 0;
+            for (int c = 0; c < classes; c++) {
+                scores[c] = Math.exp(scores[c] - max);
+                sum += scores[c];
+            }
+            for (int c = 0; c < classes; c++) {
+                scores[c] /= sum;
+            }
+            return scores;
+        }
+    }
+
+    private record TrainedModels(NaiveBayes category, NaiveBayes priority, LocalDateTime trainedAt) {
+    }
+
+    public record Suggestion(
+            Category category,
+            double categoryConfidence,
+            Priority priority,
+            double priorityConfidence,
+            LocalDateTime modelTrainedAt) {
+    }
+}
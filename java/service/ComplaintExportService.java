@@ -0,0 +1,201 @@
+package com.cms.service;
+
+import com.cms.dto.ComplaintExportRow;
+import com.cms.dto.ComplaintListRow;
+import com.cms.model.Complaint.*;
+import com.cms.repository.ComplaintRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Complaint Export Service - Streams complaints to NDJSON, CSV or a JSON page.
+ * 
+ * Rows are read through a forward-only cursor and written to the output
+ * stream one at a time, so memory use is constant regardless of how many
+ * complaints match the filter or how large a list page is requested.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ComplaintExportService {
+
+    private final ComplaintRepository complaintRepository;
+    private final ObjectMapper objectMapper;
+
+    private static final String CSV_HEADER = "id,title,description,category,priority,status,sentiment," +
+            "createdAt,updatedAt,slaDeadline,escalationLevel,customerId,customerName," +
+            "assignedStaffId,assignedStaffName";
+
+    /**
+     * Write all complaints matching the filter to the output stream.
+     * Returns the number of rows written.
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, ComplaintStatus status, Priority priority, Category category,
+            LocalDateTime start, LocalDateTime end, OutputStream out) throws IOException {
+
+        long rows;
+        try (Stream<ComplaintExportRow> stream = complaintRepository.streamForExport(
+                status, priority, category, start, end)) {
+            rows = switch (format) {
+                case NDJSON -> writeNdjson(stream.iterator(), out);
+                case CSV -> writeCsv(stream.iterator(), out);
+            };
+        }
+
+        log.info("Exported {} complaints as {}", rows, format);
+        return rows;
+    }
+
+    /**
+     * Write one list page as JSON in the ComplaintPage shape, row by row
+     * from the cursor, without building DTOs or the page in memory.
+     */
+    @Transactional(readOnly = true)
+    public void writePage(ComplaintStatus status, int page, int size, OutputStream out) throws IOException {
+        long total = complaintRepository.countForList(status);
+
+        try (Stream<ComplaintListRow> stream = complaintRepository.streamPage(status, page * size, size);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("content");
+
+            ObjectWriter values = bufferedWriter();
+            Iterator<ComplaintListRow> rows = stream.iterator();
+            while (rows.hasNext()) {
+                writeListRow(generator, values, rows.next());
+            }
+
+            generator.writeEndArray();
+            generator.writeNumberField("page", page);
+            generator.writeNumberField("size", size);
+            generator.writeNumberField("totalElements", total);
+            generator.writeBooleanField("hasNext", (long) (page + 1) * size < total);
+            generator.writeEndObject();
+        }
+    }
+
+    // Same field names and formats as ComplaintDTO
+    private void writeListRow(JsonGenerator generator, ObjectWriter values, ComplaintListRow row)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", row.getId());
+        generator.writeStringField("title", row.getTitle());
+        generator.writeStringField("description", row.getDescription());
+        generator.writeStringField("category", row.getCategory().name());
+        generator.writeStringField("priority", row.getPriority().name());
+        generator.writeStringField("status", row.getStatus().name());
+        generator.writeStringField("sentiment", row.getSentiment().name());
+        generator.writeFieldName("createdAt");
+        values.writeValue(generator, row.getCreatedAt());
+        generator.writeFieldName("updatedAt");
+        values.writeValue(generator, row.getUpdatedAt());
+        generator.writeFieldName("slaDeadline");
+        values.writeValue(generator, row.getSlaDeadline());
+        generator.writeStringField("customerId", row.getCustomerId());
+        generator.writeStringField("customerName", row.getCustomerName());
+        generator.writeStringField("assignedStaffId", row.getAssignedStaffId());
+        generator.writeStringField("assignedStaffName", row.getAssignedStaffName());
+        generator.writeFieldName("commentCount");
+        values.writeValue(generator, row.getCommentCount());
+        generator.writeFieldName("lastActivityAt");
+        values.writeValue(generator, row.getLastActivityAt());
+        generator.writeStringField("duplicateOfId", row.getDuplicateOfId());
+        generator.writeEndObject();
+    }
+
+    // Writer that leaves flushing to the generator's buffer; the default
+    // FLUSH_AFTER_WRITE_VALUE would flush the servlet stream on every value
+    private ObjectWriter bufferedWriter() {
+        return objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    private long writeNdjson(Iterator<ComplaintExportRow> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            ObjectWriter values = bufferedWriter();
+            while (rows.hasNext()) {
+                values.writeValue(generator, rows.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<ComplaintExportRow> rows, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        StringBuilder line = new StringBuilder(512);
+        while (rows.hasNext()) {
+            ComplaintExportRow row = rows.next();
+            line.setLength(0);
+            appendCsv(line, row.getId()).append(',');
+            appendCsv(line, row.getTitle()).append(',');
+            appendCsv(line, row.getDescription()).append(',');
+            appendCsv(line, row.getCategory()).append(',');
+            appendCsv(line, row.getPriority()).append(',');
+            appendCsv(line, row.getStatus()).append(',');
+            appendCsv(line, row.getSentiment()).append(',');
+            appendCsv(line, row.getCreatedAt()).append(',');
+            appendCsv(line, row.getUpdatedAt()).append(',');
+            appendCsv(line, row.getSlaDeadline()).append(',');
+            appendCsv(line, row.getEscalationLevel()).append(',');
+            appendCsv(line, row.getCustomerId()).append(',');
+            appendCsv(line, row.getCustomerName()).append(',');
+            appendCsv(line, row.getAssignedStaffId()).append(',');
+            appendCsv(line, row.getAssignedStaffName()).append('\n');
+            writer.append(line);
+            count++;
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    // RFC 4180 quoting: wrap in quotes when needed and double embedded quotes
+    private StringBuilder appendCsv(StringBuilder line, Object value) {
+        if (value == null) {
+            return line;
+        }
+        String text = value.toString();
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            return line.append(text);
+        }
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        return line.append('"');
+    }
+
+    public enum ExportFormat {
+        NDJSON, CSV
+    }
+}
@@ -0,0 +1,244 @@
+package com.cms.service;
+
+import com.cms.dto.ComplaintFeedEvent;
+import com.cms.model.Complaint;
+import com.cms.model.ComplaintEvent;
+import com.cms.model.User;
+import com.cms.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Complaint Feed Service - Live complaint updates over Server-Sent Events.
+ * 
+ * Committed complaint events and SLA warnings are fanned out in-process to
+ * every subscriber whose filter accepts them: admins see everything, staff
+ * see complaints assigned to them or just reassigned away from them, plus
+ * new unassigned complaints. Each
+ * subscriber has a bounded buffer that drops the oldest entry when full,
+ * so a slow client never blocks publishers or other clients; the client is
+ * told how many entries it missed. Each subscriber is drained by its own
+ * virtual thread, so idle connections cost a parked virtual thread and a
+ * socket, not a platform thread.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ComplaintFeedService {
+
+    private final UserRepository userRepository;
+
+    @Value("${cms.feed.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${cms.feed.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    @Value("${cms.feed.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // Marker entry that makes a sender write an SSE comment
+    private static final Object HEARTBEAT = new Object();
+
+    /**
+     * Open a feed for the given user.
+     */
+    public SseEmitter subscribe(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (subscribers.size() >= maxSubscribers) {
+            throw new RuntimeException("Live feed is at capacity, fall back to polling");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, user.getId(), user.getRole() == User.UserRole.ADMIN);
+        subscribers.add(subscriber);
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        Thread.ofVirtual().name("sse-" + user.getId()).start(subscriber::drain);
+
+        log.debug("Feed subscriber added for {} ({} active)", email, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Publish committed complaint events.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onComplaintEvent(ComplaintEvent event) {
+        publish(ComplaintFeedEvent.builder()
+                .type(event.getType().name())
+                .complaintId(event.getComplaintId())
+                .fromStatus(event.getFromStatus() != null ? event.getFromStatus().name() : null)
+                .toStatus(event.getToStatus() != null ? event.getToStatus().name() : null)
+                .staffId(event.getStaffId())
+                .previousStaffId(event.getPreviousStaffId())
+                .priority(event.getPriority().name())
+                .escalationLevel(event.getEscalationLevel())
+                .occurredAt(event.getOccurredAt())
+                .build());
+    }
+
+    /**
+     * Publish an SLA warning for a complaint nearing breach.
+     */
+    public void publishSLAWarning(Complaint complaint) {
+        publish(ComplaintFeedEvent.builder()
+                .type("SLA_WARNING")
+                .complaintId(complaint.getId())
+                .toStatus(complaint.getStatus().name())
+                .staffId(complaint.getAssignedStaff() != null ? complaint.getAssignedStaff().getId() : null)
+                .priority(complaint.getPriority().name())
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Keep idle connections alive and detect dead ones.
+     */
+    @Scheduled(fixedRateString = "${cms.feed.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(HEARTBEAT);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void publish(ComplaintFeedEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.accepts(event)) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    /**
+     * One connected client: filter, bounded drop-oldest buffer and sender loop.
+     * Uses a ReentrantLock rather than synchronized so waiting senders do not
+     * pin their carrier threads.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final String userId;
+        private final boolean admin;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition available = lock.newCondition();
+        private final ArrayDeque<Object> buffer = new ArrayDeque<>();
+        private long dropped;
+        private boolean closed;
+
+        Subscriber(SseEmitter emitter, String userId, boolean admin) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.admin = admin;
+        }
+
+        boolean accepts(ComplaintFeedEvent event) {
+            if (admin) {
+                return true;
+            }
+            // The previous assignee also hears that a complaint was taken away
+            return userId.equals(event.getStaffId())
+                    || userId.equals(event.getPreviousStaffId())
+                    || ("CREATED".equals(event.getType()) && event.getStaffId() == null);
+        }
+
+        void offer(Object item) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    buffer.pollFirst();
+                    dropped++;
+                }
+                buffer.addLast(item);
+                available.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                closed = true;
+                buffer.clear();
+                available.signal();
+            } finally {
+                lock.unlock();
+            }
+            subscribers.remove(this);
+        }
+
+        void drain() {
+            try {
+                while (true) {
+                    Object item;
+                    long missed;
+                    lock.lock();
+                    try {
+                        while (buffer.isEmpty() && !closed) {
+                            available.await();
+                        }
+                        if (closed) {
+                            return;
+                        }
+                        item = buffer.pollFirst();
+                        missed = dropped;
+                        dropped = 0;
+                    } finally {
+                        lock.unlock();
+                    }
+
+                    if (missed > 0) {
+                        emitter.send(SseEmitter.event().name("dropped").data(Map.of("count", missed)));
+                    }
+                    if (item == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        ComplaintFeedEvent event = (ComplaintFeedEvent) item;
+                        emitter.send(SseEmitter.event().name(event.getType()).data(event));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Feed subscriber {} disconnected: {}", userId, e.getMessage());
+                emitter.completeWithError(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            } finally {
+                close();
+            }
+        }
+    }
+}
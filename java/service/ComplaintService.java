@@ -1,14 +1,24 @@
 package com.cms.service;
 
+import com.cms.dto.BulkItemResult;
+import com.cms.dto.BulkOperationResult;
 import com.cms.dto.ComplaintDTO;
 import com.cms.dto.ComplaintRequest;
+import com.cms.dto.ComplaintSnapshot;
 import com.cms.model.Complaint;
 import com.cms.model.Complaint.*;
+import com.cms.model.ComplaintEvent;
+import com.cms.model.ComplaintEvent.EventType;
 import com.cms.model.User;
 import com.cms.repository.ComplaintRepository;
 import com.cms.repository.UserRepository;
+import com.cms.service.ComplaintEventService.ResolutionMetrics;
+import com.cms.service.DuplicateDetectionService.DuplicateCandidate;
+import com.cms.service.GamificationService.Resolution;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -17,6 +27,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 
 /**
@@ -39,6 +50,23 @@ public class ComplaintService {
     private final SentimentAnalysisService sentimentService;
     private final SLAService slaService;
     private final GamificationService gamificationService;
+    private final AutoAssignmentService assignmentService;
+    private final ComplaintEventService eventService;
+    private final DuplicateDetectionService duplicateService;
+    private final SlaPolicyService slaPolicyService;
+
+    // Largest page size a client may request; the default page size is 20
+    @Value("${cms.api.max-page-size:200}")
+    private int maxPageSize;
+
+    // Conditional updates re-read and re-validate this many times before giving up
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+
+    // Bulk operations load and update complaints in chunks of this size
+    private static final int BULK_CHUNK_SIZE = 500;
+
+    // Valid status transitions: bitmask of target ordinals, indexed by source ordinal
+    private static final int[] VALID_TRANSITIONS = buildTransitionTable();
 
     /**
      * Create a new complaint from customer request.
@@ -51,8 +79,15 @@ public class ComplaintService {
         // Analyze sentiment from description
         Sentiment sentiment = sentimentService.analyzeSentiment(request.getDescription());
 
-        // Calculate SLA based on priority
-        LocalDateTime slaDeadline = slaService.calculateSLADeadline(request.getPriority());
+        // Calculate SLA from priority, category, sentiment and customer history
+        CustomerTier customerTier = slaPolicyService.customerTier(customerId);
+        LocalDateTime slaDeadline = slaService.calculateSLADeadline(
+                request.getPriority(), request.getCategory(), sentiment, customerTier);
+
+        // Link to an open near-duplicate (outage floods)
+        String duplicateOfId = duplicateService.findDuplicate(request.getTitle(), request.getDescription())
+                .map(DuplicateCandidate::complaintId)
+                .orElse(null);
 
         Complaint complaint = Complaint.builder()
                 .title(request.getTitle())
@@ -61,13 +96,33 @@ public class ComplaintService {
                 .priority(request.getPriority())
                 .status(ComplaintStatus.NEW)
                 .sentiment(sentiment)
+                .customerTier(customerTier)
                 .slaDeadline(slaDeadline)
                 .customer(customer)
+                .duplicateOfId(duplicateOfId)
                 .build();
 
         Complaint saved = complaintRepository.save(complaint);
         log.info("Created complaint {} with priority {} and SLA {}",
                 saved.getId(), saved.getPriority(), saved.getSlaDeadline());
+        if (duplicateOfId != null) {
+            log.info("Complaint {} linked as near-duplicate of {}", saved.getId(), duplicateOfId);
+        }
+        duplicateService.indexAfterCommit(saved);
+        eventService.record(eventService.newEvent(
+                EventType.CREATED, saved, null, ComplaintStatus.NEW, null, saved.getCreatedAt()));
+
+        // Route to the least loaded suitable staff member
+        if (assignmentService.isAutoAssignEnabled()) {
+            assignmentService.reserve(saved.getCategory(), saved.getPriority()).ifPresent(staffId -> {
+                ComplaintEvent assigned = eventService.newEvent(EventType.ASSIGNED, saved,
+                        ComplaintStatus.NEW, ComplaintStatus.ASSIGNED, staffId, saved.getCreatedAt());
+                saved.setAssignedStaff(userRepository.getReferenceById(staffId));
+                saved.setStatus(ComplaintStatus.ASSIGNED);
+                eventService.record(assigned);
+                log.info("Auto-assigned complaint {} to staff {}", saved.getId(), staffId);
+            });
+        }
 
         return mapToDTO(saved);
     }
@@ -76,8 +131,8 @@ public class ComplaintService {
      * Get paginated list of all complaints with optional status filter.
      */
     @Transactional(readOnly = true)
-    public Page<ComplaintDTO> findAll(int page, String status) {
-        Pageable pageable = PageRequest.of(page, 20, Sort.by("createdAt").descending());
+    public Page<ComplaintDTO> findAll(int page, int size, String status) {
+        Pageable pageable = PageRequest.of(page, resolvePageSize(size), Sort.by("createdAt").descending());
 
         Page<Complaint> complaints;
         if (status != null && !status.isEmpty()) {
@@ -100,23 +155,62 @@ public class ComplaintService {
                 .orElseThrow(() -> new RuntimeException("Complaint not found: " + id));
     }
 
+    /**
+     * Cache validators for a single complaint, computed without loading the entity.
+     * Comments bump lastActivityAt rather than updatedAt, so both feed the validator.
+     */
+    @Transactional(readOnly = true)
+    public Validators getComplaintValidators(String id) {
+        List<Object[]> rows = complaintRepository.findChangeMarkers(id);
+        if (rows.isEmpty()) {
+            throw new RuntimeException("Complaint not found: " + id);
+        }
+        Object[] row = rows.get(0);
+        LocalDateTime lastModified = latest((LocalDateTime) row[0], (LocalDateTime) row[1]);
+        String etag = "\"" + id + "-" + row[2] + "-" + toEpochMilli(lastModified) + "\"";
+        return new Validators(etag, toEpochMilli(lastModified));
+    }
+
+    /**
+     * Cache validators for a page of a customer's complaints.
+     * Weak, since the tag is derived from the newest change and row count rather than the body.
+     */
+    @Transactional(readOnly = true)
+    public Validators getCustomerPageValidators(String customerId, int page, int size) {
+        Object[] row = complaintRepository.findChangeMarkersByCustomer(customerId).get(0);
+        LocalDateTime lastModified = latest((LocalDateTime) row[0], (LocalDateTime) row[1]);
+        long millis = lastModified != null ? toEpochMilli(lastModified) : 0L;
+        // Components go into the tag as they are; a hash could collide and yield a false 304
+        String etag = "W/\"my-" + customerId + "-" + page + "-" + resolvePageSize(size)
+                + "-" + row[2] + "-" + millis + "\"";
+        return new Validators(etag, millis);
+    }
+
     /**
      * Get all complaints for a specific customer.
      */
     @Transactional(readOnly = true)
-    public Page<ComplaintDTO> findByCustomer(String customerId, int page) {
-        Pageable pageable = PageRequest.of(page, 20, Sort.by("createdAt").descending());
+    public Page<ComplaintDTO> findByCustomer(String customerId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, resolvePageSize(size), Sort.by("createdAt").descending());
         return complaintRepository.findByCustomerId(customerId, pageable)
                 .map(this::mapToDTO);
     }
 
+    /**
+     * Complaints linked to the given one as near-duplicates, oldest first.
+     */
+    @Transactional(readOnly = true)
+    public Page<ComplaintDTO> findDuplicates(String complaintId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, resolvePageSize(size), Sort.by("createdAt").ascending());
+        return complaintRepository.findByDuplicateOfId(complaintId, pageable)
+                .map(this::mapToDTO);
+    }
+
     /**
      * Assign complaint to a staff member.
+     * Applied as a version-checked update; retried against fresh state on conflict.
      */
     public ComplaintDTO assignToStaff(String complaintId, String staffId) {
-        Complaint complaint = complaintRepository.findById(complaintId)
-                .orElseThrow(() -> new RuntimeException("Complaint not found"));
-
         User staff = userRepository.findById(staffId)
                 .orElseThrow(() -> new RuntimeException("Staff not found"));
 
@@ -124,41 +218,280 @@ public class ComplaintService {
             throw new RuntimeException("User is not a staff member");
         }
 
-        complaint.setAssignedStaff(staff);
-        complaint.setStatus(ComplaintStatus.ASSIGNED);
+        LocalDateTime now = LocalDateTime.now();
+        for (int attempt = 1; attempt <= MAX_UPDATE_ATTEMPTS; attempt++) {
+            ComplaintSnapshot snapshot = loadSnapshot(complaintId);
+            ComplaintStatus currentStatus = snapshot.getStatus();
+            String previousStaffId = snapshot.getAssignedStaffId();
+
+            if (complaintRepository.assignIfVersion(complaintId, snapshot.getVersion(), staff,
+                    ComplaintStatus.ASSIGNED, now) == 0) {
+                log.debug("Concurrent update on complaint {} (attempt {}), retrying", complaintId, attempt);
+                continue;
+            }
+
+            // Keep the auto-assignment workload view in sync
+            if (!isTerminalStatus(currentStatus)) {
+                Priority priority = snapshot.getPriority();
+                if (previousStaffId != null) {
+                    assignmentService.onReleased(previousStaffId, priority, snapshot.getCategory(), false);
+                }
+                assignmentService.onAssigned(staffId, priority);
+            }
+
+            eventService.record(eventService.newEvent(
+                    EventType.ASSIGNED, snapshot, ComplaintStatus.ASSIGNED, staffId, now));
+            log.info("Assigned complaint {} to staff {}", complaintId, staffId);
+            return findById(complaintId);
+        }
 
-        Complaint saved = complaintRepository.save(complaint);
-        log.info("Assigned complaint {} to staff {}", complaintId, staffId);
+        throw new OptimisticLockingFailureException(
+                "Complaint " + complaintId + " was modified concurrently, please retry");
+    }
+
+    /**
+     * Confirm or correct the category and priority of a complaint (staff review).
+     * Reviewed labels are what the classifier trains on. If an open
+     * complaint's labels change, its SLA deadline is recalculated from
+     * creation and its assignee's workload moves to the new priority.
+     */
+    public ComplaintDTO reclassify(String complaintId, Category category, Priority priority) {
+        Complaint complaint = complaintRepository.findById(complaintId)
+                .orElseThrow(() -> new RuntimeException("Complaint not found"));
 
+        Category oldCategory = complaint.getCategory();
+        Priority oldPriority = complaint.getPriority();
+        complaint.setCategory(category);
+        complaint.setPriority(priority);
+        complaint.setLabelsReviewed(true);
+
+        if ((category != oldCategory || priority != oldPriority) && !isTerminalStatus(complaint.getStatus())) {
+            LocalDateTime deadline = slaService.calculateSLADeadline(priority, category,
+                    complaint.getSentiment(), complaint.getCustomerTier(), complaint.getCreatedAt());
+            complaint.setSlaDeadline(deadline);
+            // The SLA scan re-derives the next unfired escalation level from the new deadline
+            complaint.setNextEscalationAt(deadline);
+
+            User staff = complaint.getAssignedStaff();
+            if (staff != null && priority != oldPriority) {
+                assignmentService.onReleased(staff.getId(), oldPriority, oldCategory, false);
+                assignmentService.onAssigned(staff.getId(), priority);
+            }
+        }
+
+        // Version-checked on flush, so a concurrent change fails instead of being overwritten
+        Complaint saved = complaintRepository.saveAndFlush(complaint);
+        log.info("Reclassified complaint {} from {}/{} to {}/{}",
+                complaintId, oldCategory, oldPriority, category, priority);
         return mapToDTO(saved);
     }
 
     /**
      * Update complaint status with proper state transitions.
-     * Awards gamification points on resolution.
+     * Applied as a conditional update on the current status, so concurrent
+     * agents and the SLA job cannot overwrite each other; on conflict the
+     * transition is re-validated against the new status and retried.
+     * Awards gamification points on resolution; notes given with a
+     * resolution are stored as the resolution notes.
      */
-    public ComplaintDTO updateStatus(String complaintId, ComplaintStatus newStatus) {
-        Complaint complaint = complaintRepository.findById(complaintId)
-                .orElseThrow(() -> new RuntimeException("Complaint not found"));
+    public ComplaintDTO updateStatus(String complaintId, ComplaintStatus newStatus, String notes) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int attempt = 1; attempt <= MAX_UPDATE_ATTEMPTS; attempt++) {
+            ComplaintSnapshot snapshot = loadSnapshot(complaintId);
+            ComplaintStatus oldStatus = snapshot.getStatus();
+            validateStatusTransition(oldStatus, newStatus);
+
+            if (complaintRepository.transitionStatus(List.of(complaintId), oldStatus, newStatus, now) == 0) {
+                log.debug("Concurrent update on complaint {} (attempt {}), retrying", complaintId, attempt);
+                continue;
+            }
+
+            String staffId = snapshot.getAssignedStaffId();
+            Priority priority = snapshot.getPriority();
+
+            if (newStatus == ComplaintStatus.RESOLVED && notes != null && !notes.isBlank()) {
+                complaintRepository.saveResolutionNotes(complaintId, notes);
+            }
+
+            // Complaint leaves the assignee's open workload
+            if (!isTerminalStatus(oldStatus) && isTerminalStatus(newStatus) && staffId != null) {
+                assignmentService.onReleased(staffId, priority, snapshot.getCategory(),
+                        newStatus == ComplaintStatus.RESOLVED);
+            }
+
+            // Award points if resolved
+            if (newStatus == ComplaintStatus.RESOLVED && staffId != null) {
+                boolean withinSLA = now.isBefore(snapshot.getSlaDeadline());
+                gamificationService.awardPointsForResolution(staffId, withinSLA, priority);
+            }
+
+            eventService.record(eventService.newEvent(
+                    EventType.STATUS_CHANGED, snapshot, newStatus, staffId, now));
+            log.info("Updated complaint {} status from {} to {}", complaintId, oldStatus, newStatus);
+            return findById(complaintId);
+        }
+
+        throw new OptimisticLockingFailureException(
+                "Complaint " + complaintId + " was modified concurrently, please retry");
+    }
+
+    /**
+     * Move many complaints to one status.
+     * Transitions are validated per item and applied with set-based updates
+     * per chunk; gamification points are awarded once per staff member.
+     */
+    public BulkOperationResult bulkUpdateStatus(List<String> complaintIds, ComplaintStatus newStatus) {
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(complaintIds));
+        List<BulkItemResult> results = new ArrayList<>(ids.size());
+        Map<String, List<Resolution>> resolutionsByStaff = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int start = 0; start < ids.size(); start += BULK_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(start, Math.min(start + BULK_CHUNK_SIZE, ids.size()));
+            Map<String, ComplaintSnapshot> snapshots = loadSnapshots(chunk);
+            List<ComplaintEvent> events = new ArrayList<>();
+
+            // Group valid items by current status so each update can be conditional on it
+            Map<ComplaintStatus, List<ComplaintSnapshot>> byFromStatus = new EnumMap<>(ComplaintStatus.class);
+            for (String id : chunk) {
+                ComplaintSnapshot snapshot = snapshots.get(id);
+                if (snapshot == null) {
+                    results.add(failedItem(id, "Complaint not found"));
+                    continue;
+                }
+                ComplaintStatus from = snapshot.getStatus();
+                if (!isValidTransition(from, newStatus)) {
+                    results.add(failedItem(id, "Invalid status transition from " + from + " to " + newStatus));
+                    continue;
+                }
+                byFromStatus.computeIfAbsent(from, k -> new ArrayList<>()).add(snapshot);
+            }
+
+            for (Map.Entry<ComplaintStatus, List<ComplaintSnapshot>> group : byFromStatus.entrySet()) {
+                ComplaintStatus from = group.getKey();
+                List<String> groupIds = group.getValue().stream().map(ComplaintSnapshot::getId).toList();
+
+                // Only rows this statement changed count; a row deleted or moved by a
+                // concurrent update (even to the same status) already had its side effects
+                Set<String> changed = new HashSet<>(complaintRepository.transitionStatusReturningIds(
+                        groupIds, from.name(), newStatus.name(), now));
+                Map<String, ComplaintSnapshot> current = changed.size() == groupIds.size()
+                        ? Map.of() : loadSnapshots(groupIds);
+
+                for (ComplaintSnapshot snapshot : group.getValue()) {
+                    String id = snapshot.getId();
+                    if (!changed.contains(id)) {
+                        ComplaintSnapshot latest = current.get(id);
+                        results.add(failedItem(id, latest == null
+                                ? "Complaint not found"
+                                : "Status changed concurrently to " + latest.getStatus()));
+                        continue;
+                    }
+                    results.add(succeededItem(id, newStatus));
+
+                    String staffId = snapshot.getAssignedStaffId();
+                    events.add(eventService.newEvent(EventType.STATUS_CHANGED, snapshot, newStatus, staffId, now));
+                    if (staffId == null) {
+                        continue;
+                    }
+                    Priority priority = snapshot.getPriority();
+                    if (!isTerminalStatus(from) && isTerminalStatus(newStatus)) {
+                        assignmentService.onReleased(staffId, priority, snapshot.getCategory(),
+                                newStatus == ComplaintStatus.RESOLVED);
+                    }
+                    if (newStatus == ComplaintStatus.RESOLVED) {
+                        boolean withinSLA = now.isBefore(snapshot.getSlaDeadline());
+                        resolutionsByStaff.computeIfAbsent(staffId, k -> new ArrayList<>())
+                                .add(new Resolution(priority, withinSLA));
+                    }
+                }
+            }
+
+            eventService.recordAll(events);
+        }
 
-        ComplaintStatus oldStatus = complaint.getStatus();
-        validateStatusTransition(oldStatus, newStatus);
+        resolutionsByStaff.forEach(gamificationService::awardPointsForResolutions);
 
-        complaint.setStatus(newStatus);
+        BulkOperationResult result = summarize(results);
+        log.info("Bulk status update to {}: {} of {} complaints updated",
+                newStatus, result.getSucceeded(), result.getRequested());
+        return result;
+    }
+
+    /**
+     * Assign many open complaints to one staff member with set-based updates.
+     */
+    public BulkOperationResult bulkAssign(List<String> complaintIds, String staffId) {
+        User staff = userRepository.findById(staffId)
+                .orElseThrow(() -> new RuntimeException("Staff not found"));
 
-        // Award points if resolved
-        if (newStatus == ComplaintStatus.RESOLVED && complaint.getAssignedStaff() != null) {
-            boolean withinSLA = LocalDateTime.now().isBefore(complaint.getSlaDeadline());
-            gamificationService.awardPointsForResolution(
-                    complaint.getAssignedStaff().getId(),
-                    withinSLA,
-                    complaint.getPriority());
+        if (staff.getRole() != User.UserRole.STAFF && staff.getRole() != User.UserRole.ADMIN) {
+            throw new RuntimeException("User is not a staff member");
         }
 
-        Complaint saved = complaintRepository.save(complaint);
-        log.info("Updated complaint {} status from {} to {}", complaintId, oldStatus, newStatus);
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(complaintIds));
+        List<BulkItemResult> results = new ArrayList<>(ids.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int start = 0; start < ids.size(); start += BULK_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(start, Math.min(start + BULK_CHUNK_SIZE, ids.size()));
+            Map<String, ComplaintSnapshot> snapshots = loadSnapshots(chunk);
+
+            List<ComplaintEvent> events = new ArrayList<>();
+
+            // Group by current status and assignee so each update can be conditional on both
+            Map<AssignmentState, List<ComplaintSnapshot>> byState = new LinkedHashMap<>();
+            for (String id : chunk) {
+                ComplaintSnapshot snapshot = snapshots.get(id);
+                if (snapshot == null) {
+                    results.add(failedItem(id, "Complaint not found"));
+                } else if (isTerminalStatus(snapshot.getStatus())) {
+                    results.add(failedItem(id, "Cannot assign a " + snapshot.getStatus() + " complaint"));
+                } else {
+                    byState.computeIfAbsent(new AssignmentState(snapshot.getStatus(), snapshot.getAssignedStaffId()),
+                            k -> new ArrayList<>()).add(snapshot);
+                }
+            }
+
+            for (Map.Entry<AssignmentState, List<ComplaintSnapshot>> group : byState.entrySet()) {
+                AssignmentState state = group.getKey();
+                List<String> groupIds = group.getValue().stream().map(ComplaintSnapshot::getId).toList();
+
+                // Only rows this statement changed count; a row deleted, closed or
+                // reassigned concurrently keeps the side effects of that change
+                Set<String> changed = new HashSet<>(complaintRepository.assignReturningIds(
+                        groupIds, state.status().name(), state.staffId(), staffId,
+                        ComplaintStatus.ASSIGNED.name(), now));
+                Map<String, ComplaintSnapshot> current = changed.size() == groupIds.size()
+                        ? Map.of() : loadSnapshots(groupIds);
+
+                for (ComplaintSnapshot snapshot : group.getValue()) {
+                    String id = snapshot.getId();
+                    if (!changed.contains(id)) {
+                        ComplaintSnapshot latest = current.get(id);
+                        results.add(failedItem(id, latest == null
+                                ? "Complaint not found"
+                                : "Complaint changed concurrently (status " + latest.getStatus() + ")"));
+                        continue;
+                    }
+                    results.add(succeededItem(id, ComplaintStatus.ASSIGNED));
+                    events.add(eventService.newEvent(EventType.ASSIGNED, snapshot, ComplaintStatus.ASSIGNED, staffId, now));
+
+                    Priority priority = snapshot.getPriority();
+                    if (snapshot.getAssignedStaffId() != null) {
+                        assignmentService.onReleased(snapshot.getAssignedStaffId(), priority, snapshot.getCategory(), false);
+                    }
+                    assignmentService.onAssigned(staffId, priority);
+                }
+            }
+
+            eventService.recordAll(events);
+        }
 
-        return mapToDTO(saved);
+        BulkOperationResult result = summarize(results);
+        log.info("Bulk assigned {} of {} complaints to staff {}",
+                result.getSucceeded(), result.getRequested(), staffId);
+        return result;
     }
 
     /**
@@ -189,8 +522,11 @@ public class ComplaintService {
         stats.put("slaNearBreach", complaintRepository.findComplaintsNearingSLA(
                 LocalDateTime.now(), LocalDateTime.now().plusHours(2)).size());
 
-        // Resolution metrics
-        stats.put("avgResolutionHours", complaintRepository.getAverageResolutionTimeHours());
+        // Resolution metrics (exact, from the event log)
+        ResolutionMetrics resolution = eventService.getResolutionMetrics(null);
+        stats.put("avgResolutionHours", resolution.avgResolutionHours());
+        stats.put("avgFirstResponseHours", resolution.avgFirstResponseHours());
+        stats.put("resolutionSlaCompliance", resolution.slaComplianceRate());
         stats.put("totalComplaints", complaintRepository.count());
 
         return stats;
@@ -200,28 +536,105 @@ public class ComplaintService {
      * Search complaints by keyword.
      */
     @Transactional(readOnly = true)
-    public Page<ComplaintDTO> search(String keyword, int page) {
-        Pageable pageable = PageRequest.of(page, 20);
+    public Page<ComplaintDTO> search(String keyword, int page, int size) {
+        Pageable pageable = PageRequest.of(page, resolvePageSize(size));
         return complaintRepository.searchByKeyword(keyword, pageable)
                 .map(this::mapToDTO);
     }
 
+    /**
+     * Clamp a client-requested page size to [1, cms.api.max-page-size].
+     */
+    public int resolvePageSize(int size) {
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+
+    private LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+
+    private long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
     // Validate status transitions
     private void validateStatusTransition(ComplaintStatus from, ComplaintStatus to) {
-        Map<ComplaintStatus, Set<ComplaintStatus>> validTransitions = Map.of(
-                ComplaintStatus.NEW, Set.of(ComplaintStatus.ASSIGNED, ComplaintStatus.CLOSED),
-                ComplaintStatus.ASSIGNED,
-                Set.of(ComplaintStatus.IN_PROGRESS, ComplaintStatus.ESCALATED, ComplaintStatus.CLOSED),
-                ComplaintStatus.IN_PROGRESS, Set.of(ComplaintStatus.RESOLVED, ComplaintStatus.ESCALATED),
-                ComplaintStatus.ESCALATED, Set.of(ComplaintStatus.IN_PROGRESS, ComplaintStatus.RESOLVED),
-                ComplaintStatus.RESOLVED, Set.of(ComplaintStatus.CLOSED),
-                ComplaintStatus.CLOSED, Set.of());
-
-        if (!validTransitions.getOrDefault(from, Set.of()).contains(to)) {
+        if (!isValidTransition(from, to)) {
             throw new RuntimeException("Invalid status transition from " + from + " to " + to);
         }
     }
 
+    private static boolean isValidTransition(ComplaintStatus from, ComplaintStatus to) {
+        return (VALID_TRANSITIONS[from.ordinal()] & (1 << to.ordinal())) != 0;
+    }
+
+    private static int[] buildTransitionTable() {
+        EnumMap<ComplaintStatus, EnumSet<ComplaintStatus>> transitions = new EnumMap<>(ComplaintStatus.class);
+        transitions.put(ComplaintStatus.NEW, EnumSet.of(ComplaintStatus.ASSIGNED, ComplaintStatus.CLOSED));
+        transitions.put(ComplaintStatus.ASSIGNED,
+                EnumSet.of(ComplaintStatus.IN_PROGRESS, ComplaintStatus.ESCALATED, ComplaintStatus.CLOSED));
+        transitions.put(ComplaintStatus.IN_PROGRESS, EnumSet.of(ComplaintStatus.RESOLVED, ComplaintStatus.ESCALATED));
+        transitions.put(ComplaintStatus.ESCALATED, EnumSet.of(ComplaintStatus.IN_PROGRESS, ComplaintStatus.RESOLVED));
+        transitions.put(ComplaintStatus.RESOLVED, EnumSet.of(ComplaintStatus.CLOSED));
+        transitions.put(ComplaintStatus.CLOSED, EnumSet.noneOf(ComplaintStatus.class));
+
+        int[] table = new int[ComplaintStatus.values().length];
+        transitions.forEach((from, targets) -> {
+            for (ComplaintStatus to : targets) {
+                table[from.ordinal()] |= 1 << to.ordinal();
+            }
+        });
+        return table;
+    }
+
+    private ComplaintSnapshot loadSnapshot(String complaintId) {
+        ComplaintSnapshot snapshot = loadSnapshots(List.of(complaintId)).get(complaintId);
+        if (snapshot == null) {
+            throw new RuntimeException("Complaint not found");
+        }
+        return snapshot;
+    }
+
+    private Map<String, ComplaintSnapshot> loadSnapshots(Collection<String> ids) {
+        Map<String, ComplaintSnapshot> snapshots = new HashMap<>();
+        for (ComplaintSnapshot snapshot : complaintRepository.findSnapshotsByIds(ids)) {
+            snapshots.put(snapshot.getId(), snapshot);
+        }
+        return snapshots;
+    }
+
+    private BulkItemResult succeededItem(String complaintId, ComplaintStatus status) {
+        return BulkItemResult.builder()
+                .complaintId(complaintId)
+                .success(true)
+                .status(status.name())
+                .build();
+    }
+
+    private BulkItemResult failedItem(String complaintId, String error) {
+        return BulkItemResult.builder()
+                .complaintId(complaintId)
+                .success(false)
+                .error(error)
+                .build();
+    }
+
+    private BulkOperationResult summarize(List<BulkItemResult> results) {
+        int succeeded = (int) results.stream().filter(BulkItemResult::isSuccess).count();
+        return BulkOperationResult.builder()
+                .requested(results.size())
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+    private boolean isTerminalStatus(ComplaintStatus status) {
+        return status == ComplaintStatus.RESOLVED || status == ComplaintStatus.CLOSED;
+    }
+
     // Map entity to DTO
     private ComplaintDTO mapToDTO(Complaint complaint) {
         return ComplaintDTO.builder()
@@ -239,6 +652,19 @@ public class ComplaintService {
                 .customerName(complaint.getCustomer().getName())
                 .assignedStaffId(complaint.getAssignedStaff() != null ? complaint.getAssignedStaff().getId() : null)
                 .assignedStaffName(complaint.getAssignedStaff() != null ? complaint.getAssignedStaff().getName() : null)
+                .commentCount(complaint.getCommentCount())
+                .lastActivityAt(complaint.getLastActivityAt())
+                .duplicateOfId(complaint.getDuplicateOfId())
                 .build();
     }
+
+    /**
+     * HTTP cache validators: entity tag and last-modified time in epoch millis.
+     */
+    public record Validators(String etag, long lastModified) {
+    }
+
+    // Status and assignee a bulk assignment expects a complaint to still have
+    private record AssignmentState(ComplaintStatus status, String staffId) {
+    }
 }
@@ -0,0 +1,68 @@
+package com.cms.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Dashboard Stats Cache - Shared short-lived cache for the /stats response.
+ * 
+ * Dashboards refresh in bursts, and each refresh ran the full set of
+ * aggregate queries. Stats are cached for a sub-second TTL, and refreshes
+ * go through the request coalescer, so callers that arrive while a
+ * recomputation is running share it and a burst costs one computation.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardStatsCache {
+
+    private final ComplaintService complaintService;
+    private final RequestCoalescer coalescer;
+
+    @Value("${cms.stats.cache-ttl-ms:500}")
+    private long ttlMillis;
+
+    private volatile CachedStats current;
+
+    /**
+     * Get dashboard stats, recomputing at most once per TTL.
+     */
+    public CachedStats get() {
+        CachedStats cached = current;
+        if (cached != null && !cached.isExpired(ttlMillis)) {
+            return cached;
+        }
+
+        return coalescer.execute("dashboardStats", null, this::refresh);
+    }
+
+    private CachedStats refresh() {
+        CachedStats cached = current;
+        if (cached != null && !cached.isExpired(ttlMillis)) {
+            return cached;
+        }
+        Map<String, Object> stats = Collections.unmodifiableMap(complaintService.getDashboardStats());
+        String etag = "W/\"" + Integer.toHexString(stats.hashCode()) + "\"";
+        cached = new CachedStats(stats, etag, System.currentTimeMillis());
+        current = cached;
+        log.debug("Dashboard stats recomputed");
+        return cached;
+    }
+
+    /**
+     * Computed stats with their weak entity tag and computation time.
+     */
+    public record CachedStats(Map<String, Object> stats, String etag, long computedAt) {
+        boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - computedAt >= ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,553 @@
+package com.cms.service;
+
+import com.cms.model.Complaint;
+import com.cms.model.Complaint.ComplaintStatus;
+import com.cms.model.ComplaintEvent;
+import com.cms.repository.ComplaintEventRepository;
+import com.cms.repository.ComplaintRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Duplicate Detection Service - Near-duplicate lookup over open complaints.
+ * 
+ * Keeps an in-memory MinHash + LSH index over the title and description of
+ * every open complaint. Text is reduced to word-bigram shingles, each
+ * complaint to a 32-value MinHash signature, and the signature is split
+ * into 8 bands of 4 rows. Two complaints become candidates when any band
+ * matches, which happens with high probability above ~0.6 Jaccard
+ * similarity. Candidates are then scored by signature agreement.
+ * 
+ * Everything is held in primitive arrays (signatures in one flat int[],
+ * band buckets and the id-to-slot map in open-addressing int tables), so
+ * 1M open complaints cost a few hundred MB and no per-entry objects beyond
+ * the id strings, and a lookup touches 8 probe chains. The index is updated after commit on create and on
+ * resolve/close, and rebuilt periodically to absorb drift.
+ * 
+ * Only group roots are indexed: a complaint linked as a duplicate is left
+ * out, so every later complaint of a flood links to the same root and
+ * GET /{id}/duplicates lists the whole group.
+ * 
+ * The index is per node. Local changes apply after commit; changes made
+ * on other nodes are picked up by a periodic sync (cms.dedupe.sync-ms)
+ * that reads roots created and complaints resolved or closed since the
+ * previous sync, with an overlap for commit lag. Mutations that arrive
+ * while a rebuild streams the open complaints are journaled and replayed
+ * onto the rebuilt index before it is swapped in.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DuplicateDetectionService {
+
+    private final ComplaintRepository complaintRepository;
+    private final ComplaintEventRepository eventRepository;
+
+    @Value("${cms.dedupe.enabled:true}")
+    private boolean enabled;
+
+    // Minimum estimated similarity reported as a candidate
+    @Value("${cms.dedupe.candidate-threshold:0.5}")
+    private double candidateThreshold;
+
+    // Minimum estimated similarity at which a new complaint is linked to an open one
+    @Value("${cms.dedupe.link-threshold:0.8}")
+    private double linkThreshold;
+
+    // Each sync re-reads this much before the previous one, for commits that lagged their timestamps
+    @Value("${cms.dedupe.sync-overlap-ms:60000}")
+    private long syncOverlapMillis;
+
+    private static final Set<ComplaintStatus> FINISHED = EnumSet.of(ComplaintStatus.RESOLVED, ComplaintStatus.CLOSED);
+
+    private static final int BANDS = 8;
+    private static final int ROWS = 4;
+    private static final int NUM_HASHES = BANDS * ROWS;
+
+    // Seeds of the MinHash permutations, fixed so signatures are stable across rebuilds
+    private static final int[] HASH_SEEDS = buildSeeds();
+
+    private volatile Index index = new Index(1024);
+
+    // Serializes index mutations with the swap at the end of a rebuild
+    private final ReentrantLock mutationLock = new ReentrantLock();
+
+    // Mutations applied during a running rebuild, replayed onto its result; null when idle
+    private List<Mutation> rebuildJournal;
+
+    private volatile LocalDateTime lastSync = LocalDateTime.now();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Open complaints similar to the given text, most similar first.
+     */
+    public List<DuplicateCandidate> findCandidates(String title, String description, int limit) {
+        if (!enabled) {
+            return List.of();
+        }
+        int[] signature = signature(title, description);
+        return signature == null ? List.of() : index.query(signature, candidateThreshold, limit);
+    }
+
+    /**
+     * The open complaint a new complaint should be linked to, if any.
+     */
+    public Optional<DuplicateCandidate> findDuplicate(String title, String description) {
+        return findCandidates(title, description, 1).stream()
+                .filter(candidate -> candidate.similarity() >= linkThreshold)
+                .findFirst();
+    }
+
+    /**
+     * Add a newly created complaint once its transaction commits.
+     * Complaints linked to an existing root are not indexed.
+     */
+    public void indexAfterCommit(Complaint complaint) {
+        if (!enabled || complaint.getDuplicateOfId() != null) {
+            return;
+        }
+        String id = complaint.getId();
+        int[] signature = signature(complaint.getTitle(), complaint.getDescription());
+        if (signature == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(id, signature);
+                }
+            });
+        } else {
+            apply(id, signature);
+        }
+    }
+
+    /**
+     * Drop complaints from the index once they are resolved or closed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onComplaintEvent(ComplaintEvent event) {
+        if (enabled && FINISHED.contains(event.getToStatus())) {
+            apply(event.getComplaintId(), null);
+        }
+    }
+
+    /**
+     * Rebuild the index from all open complaints.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedRateString = "${cms.dedupe.refresh-ms:3600000}", initialDelayString = "${cms.dedupe.refresh-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime started = LocalDateTime.now();
+        mutationLock.lock();
+        try {
+            rebuildJournal = new ArrayList<>();
+        } finally {
+            mutationLock.unlock();
+        }
+
+        try {
+            Index rebuilt = new Index(1024);
+            try (Stream<Object[]> rows = complaintRepository.streamOpenText()) {
+                rows.forEach(row -> {
+                    int[] signature = signature((String) row[1], (String) row[2]);
+                    if (signature != null) {
+                        rebuilt.add((String) row[0], signature);
+                    }
+                });
+            }
+
+            mutationLock.lock();
+            try {
+                for (Mutation mutation : rebuildJournal) {
+                    mutation.applyTo(rebuilt);
+                }
+                index = rebuilt;
+                lastSync = started;
+                log.info("Duplicate index rebuilt with {} open complaints ({} replayed changes)",
+                        rebuilt.size(), rebuildJournal.size());
+            } finally {
+                mutationLock.unlock();
+            }
+        } finally {
+            mutationLock.lock();
+            try {
+                rebuildJournal = null;
+            } finally {
+                mutationLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Apply complaints created, resolved or closed on any node since the last sync.
+     */
+    @Scheduled(fixedDelayString = "${cms.dedupe.sync-ms:30000}", initialDelayString = "${cms.dedupe.sync-ms:30000}")
+    @Transactional(readOnly = true)
+    public void sync() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime started = LocalDateTime.now();
+        LocalDateTime since = lastSync.minus(Duration.ofMillis(syncOverlapMillis));
+
+        try (Stream<Object[]> rows = complaintRepository.streamOpenTextCreatedSince(since)) {
+            rows.forEach(row -> {
+                int[] signature = signature((String) row[1], (String) row[2]);
+                if (signature != null) {
+                    apply((String) row[0], signature);
+                }
+            });
+        }
+        for (String id : eventRepository.findComplaintIdsReachingStatusSince(FINISHED, since)) {
+            apply(id, null);
+        }
+        lastSync = started;
+    }
+
+    // Add (signature set) or remove (signature null), journaled while a rebuild runs
+    private void apply(String id, int[] signature) {
+        Mutation mutation = new Mutation(id, signature);
+        mutationLock.lock();
+        try {
+            mutation.applyTo(index);
+            if (rebuildJournal != null) {
+                rebuildJournal.add(mutation);
+            }
+        } finally {
+            mutationLock.unlock();
+        }
+    }
+
+    public int getIndexedCount() {
+        return index.size();
+    }
+
+    // MinHash signature of the word-bigram shingles of title + description
+    static int[] signature(String title, String description) {
+        String[] tokens = tokenize((title == null ? "" : title) + " " + (description == null ? "" : description));
+        if (tokens.length == 0) {
+            return null;
+        }
+
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        int shingles = Math.max(tokens.length - 1, 1);
+        for (int t = 0; t < shingles; t++) {
+            int shingle = tokens.length == 1
+                    ? tokens[0].hashCode()
+                    : tokens[t].hashCode() * 31 + tokens[t + 1].hashCode();
+            for (int h = 0; h < NUM_HASHES; h++) {
+                int value = mix(shingle ^ HASH_SEEDS[h]);
+                if (value < signature[h]) {
+                    signature[h] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static String[] tokenize(String text) {
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    // Murmur3 32-bit finalizer
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static int[] buildSeeds() {
+        int[] seeds = new int[NUM_HASHES];
+        SplittableRandom random = new SplittableRandom(0x5eed_d0deL);
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = random.nextInt();
+        }
+        return seeds;
+    }
+
+    // Bucket key of one band: hash of its rows, mixed with the band number
+    private static int bandKey(int[] signatures, int offset, int band) {
+        int h = band * 0x9e3779b9;
+        for (int r = band * ROWS; r < (band + 1) * ROWS; r++) {
+            h = mix(h ^ signatures[offset + r]);
+        }
+        return h;
+    }
+
+    /**
+     * Slot-addressed signatures plus an open-addressing multimap from band
+     * key to slot and an open-addressing map from complaint id to slot.
+     * Cells of both tables hold slot + 1; 0 is empty, -1 is a tombstone.
+     */
+    private static final class Index {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private String[] ids;
+        private int[] signatures;
+        private int nextSlot;
+        private int[] freeSlots = new int[16];
+        private int freeCount;
+        private int size;
+
+        private int[] idCells;
+        private int idUsed; // live + tombstones
+
+        private int[] keys;
+        private int[] cells;
+        private int used; // live + tombstones
+
+        Index(int capacity) {
+            ids = new String[capacity];
+            signatures = new int[capacity * NUM_HASHES];
+            idCells = new int[Integer.highestOneBit(Math.max(capacity, 8) - 1) << 2];
+            keys = new int[capacity * BANDS * 2];
+            cells = new int[keys.length];
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return size;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void add(String id, int[] signature) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(id);
+                int slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot++;
+                if (slot >= ids.length) {
+                    ids = Arrays.copyOf(ids, ids.length * 2);
+                    signatures = Arrays.copyOf(signatures, ids.length * NUM_HASHES);
+                }
+                ids[slot] = id;
+                System.arraycopy(signature, 0, signatures, slot * NUM_HASHES, NUM_HASHES);
+                putId(id, slot);
+                size++;
+
+                if ((used + BANDS) * 2 > keys.length) {
+                    rehash(Math.max(keys.length, size * BANDS * 4));
+                }
+                for (int band = 0; band < BANDS; band++) {
+                    insert(bandKey(signature, 0, band), slot);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(String id) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<DuplicateCandidate> query(int[] signature, double threshold, int limit) {
+            List<DuplicateCandidate> candidates = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                // Collect band hits, then sort to skip slots hit by several bands.
+                // Queries run concurrently under the read lock, so visited marks
+                // stay local to the query instead of in a shared stamp array.
+                int[] hits = new int[BANDS * 2];
+                int hitCount = 0;
+                int mask = keys.length - 1;
+                for (int band = 0; band < BANDS; band++) {
+                    int key = bandKey(signature, 0, band);
+                    for (int i = key & mask; cells[i] != 0; i = (i + 1) & mask) {
+                        if (cells[i] > 0 && keys[i] == key) {
+                            if (hitCount == hits.length) {
+                                hits = Arrays.copyOf(hits, hitCount * 2);
+                            }
+                            hits[hitCount++] = cells[i] - 1;
+                        }
+                    }
+                }
+
+                Arrays.sort(hits, 0, hitCount);
+                for (int h = 0; h < hitCount; h++) {
+                    int slot = hits[h];
+                    if (h > 0 && hits[h - 1] == slot) {
+                        continue;
+                    }
+                    double similarity = similarity(signature, slot);
+                    if (similarity >= threshold) {
+                        candidates.add(new DuplicateCandidate(ids[slot], similarity));
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            candidates.sort(Comparator.comparingDouble(DuplicateCandidate::similarity).reversed());
+            return candidates.size() > limit ? candidates.subList(0, limit) : candidates;
+        }
+
+        // Fraction of equal MinHash values estimates Jaccard similarity
+        private double similarity(int[] signature, int slot) {
+            int base = slot * NUM_HASHES;
+            int equal = 0;
+            for (int h = 0; h < NUM_HASHES; h++) {
+                if (signatures[base + h] == signature[h]) {
+                    equal++;
+                }
+            }
+            return (double) equal / NUM_HASHES;
+        }
+
+        private void removeLocked(String id) {
+            int slot = removeId(id);
+            if (slot < 0) {
+                return;
+            }
+            int mask = keys.length - 1;
+            int base = slot * NUM_HASHES;
+            for (int band = 0; band < BANDS; band++) {
+                int key = bandKey(signatures, base, band);
+                for (int i = key & mask; cells[i] != 0; i = (i + 1) & mask) {
+                    if (cells[i] == slot + 1 && keys[i] == key) {
+                        cells[i] = -1;
+                        break;
+                    }
+                }
+            }
+            ids[slot] = null;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+            size--;
+        }
+
+        private void putId(String id, int slot) {
+            if ((idUsed + 1) * 2 > idCells.length) {
+                rehashIds(Math.max(idCells.length, size * 4));
+            }
+            int mask = idCells.length - 1;
+            int i = mix(id.hashCode()) & mask;
+            while (idCells[i] > 0) {
+                i = (i + 1) & mask;
+            }
+            if (idCells[i] == 0) {
+                idUsed++;
+            }
+            idCells[i] = slot + 1;
+        }
+
+        // Slot of the id, tombstoning its cell, or -1
+        private int removeId(String id) {
+            int mask = idCells.length - 1;
+            for (int i = mix(id.hashCode()) & mask; idCells[i] != 0; i = (i + 1) & mask) {
+                if (idCells[i] > 0 && id.equals(ids[idCells[i] - 1])) {
+                    int slot = idCells[i] - 1;
+                    idCells[i] = -1;
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        // Grow (power of two) and drop tombstones
+        private void rehashIds(int minCapacity) {
+            int capacity = Integer.highestOneBit(Math.max(minCapacity, 16) - 1) << 1;
+            int[] old = idCells;
+            idCells = new int[capacity];
+            idUsed = 0;
+            int mask = capacity - 1;
+            for (int cell : old) {
+                if (cell > 0) {
+                    int i = mix(ids[cell - 1].hashCode()) & mask;
+                    while (idCells[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    idCells[i] = cell;
+                    idUsed++;
+                }
+            }
+        }
+
+        private void insert(int key, int slot) {
+            int mask = keys.length - 1;
+            int i = key & mask;
+            while (cells[i] > 0) {
+                i = (i + 1) & mask;
+            }
+            if (cells[i] == 0) {
+                used++;
+            }
+            keys[i] = key;
+            cells[i] = slot + 1;
+        }
+
+        // Grow (power of two) and drop tombstones
+        private void rehash(int minCapacity) {
+            int capacity = Integer.highestOneBit(Math.max(minCapacity, 16) - 1) << 1;
+            int[] oldKeys = keys;
+            int[] oldCells = cells;
+            keys = new int[capacity];
+            cells = new int[capacity];
+            used = 0;
+            for (int i = 0; i < oldCells.length; i++) {
+                if (oldCells[i] > 0) {
+                    insert(oldKeys[i], oldCells[i] - 1);
+                }
+            }
+        }
+    }
+
+    private record Mutation(String id, int[] signature) {
+        void applyTo(Index target) {
+            if (signature != null) {
+                target.add(id, signature);
+            } else {
+                target.remove(id);
+            }
+        }
+    }
+
+    public record DuplicateCandidate(String complaintId, double similarity) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.cms.service;
+
+import com.cms.model.Complaint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Escalation Digest Service - One summary email per recipient and window.
+ * 
+ * Escalation notices for managers are not mailed one by one; they are
+ * written to escalation_digest_items in the transaction of the escalation
+ * itself, so nothing is lost on a restart and a rolled-back escalation
+ * leaves no notice behind. A poller flushes a recipient when its oldest
+ * notice is older than the window or when it has max-items notices
+ * waiting. Each flush deletes the notices (FOR UPDATE SKIP LOCKED, so
+ * nodes never send the same notice twice) and sends the digest in the
+ * same transaction; if SMTP fails the delete rolls back and the notices
+ * go out with the next poll.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EscalationDigestService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MailDispatcher mailDispatcher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${cms.notification.digest.enabled:true}")
+    private boolean enabled;
+
+    // Longest a notice waits for its digest
+    @Value("${cms.notification.digest.window-ms:900000}")
+    private long windowMillis;
+
+    // A recipient with this many waiting notices is flushed at the next poll
+    @Value("${cms.notification.digest.max-items:50}")
+    private int maxItems;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Buffer an escalation notice for the recipient's next digest.
+     * Joins the caller's transaction.
+     */
+    public void enqueue(String recipient, Complaint complaint, int level, String message) {
+        jdbcTemplate.update("INSERT INTO escalation_digest_items " +
+                        "(recipient, complaint_id, level, priority, message, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                recipient, complaint.getId(), level, complaint.getPriority().name(), message,
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * Send a digest to every recipient whose window has elapsed or whose buffer is full.
+     */
+    @Scheduled(fixedDelayString = "${cms.notification.digest.poll-ms:30000}")
+    public void flushDue() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime windowStart = LocalDateTime.now().minus(Duration.ofMillis(windowMillis));
+        List<String> due = jdbcTemplate.queryForList(
+                "SELECT recipient FROM escalation_digest_items GROUP BY recipient " +
+                        "HAVING MIN(created_at) <= ? OR COUNT(*) >= ?",
+                String.class, Timestamp.valueOf(windowStart), maxItems);
+
+        for (String recipient : due) {
+            try {
+                // A full digest may leave more notices behind; keep sending while digests are full
+                int sent;
+                do {
+                    sent = transactionTemplate.execute(status -> flush(recipient));
+                    log.info("Escalation digest with {} notices sent to {}", sent, recipient);
+                } while (sent == maxItems);
+            } catch (RuntimeException e) {
+                log.error("Escalation digest to {} failed, retrying next poll: {}", recipient, e.getMessage());
+            }
+        }
+    }
+
+    // Claim up to maxItems notices and mail them; runs inside a transaction
+    private int flush(String recipient) {
+        List<DigestItem> items = jdbcTemplate.query(
+                "DELETE FROM escalation_digest_items WHERE id IN (" +
+                        "SELECT id FROM escalation_digest_items WHERE recipient = ? " +
+                        "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) " +
+                        "RETURNING complaint_id, level, priority, message, created_at",
+                (rs, rowNum) -> new DigestItem(
+                        rs.getString("complaint_id"),
+                        rs.getInt("level"),
+                        rs.getString("priority"),
+                        rs.getString("message"),
+                        rs.getTimestamp("created_at").toLocalDateTime()),
+                recipient, maxItems);
+        if (items.isEmpty()) {
+            return 0;
+        }
+
+        mailDispatcher.deliver(buildDigest(recipient, items));
+        return items.size();
+    }
+
+    private static SimpleMailMessage buildDigest(String recipient, List<DigestItem> items) {
+        List<DigestItem> ordered = items.stream()
+                .sorted(Comparator.comparing(DigestItem::createdAt))
+                .toList();
+
+        StringBuilder body = new StringBuilder(128 + ordered.size() * 160)
+                .append(ordered.size()).append(" escalation notice(s) since ")
+                .append(ordered.get(0).createdAt()).append(":\n\n");
+        for (DigestItem item : ordered) {
+            body.append("- [L").append(item.level()).append(' ').append(item.priority()).append("] ")
+                    .append(item.createdAt()).append('\n')
+                    .append("  ").append(item.message()).append('\n');
+        }
+
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(recipient);
+        message.setSubject("ESCALATION DIGEST: " + ordered.size() + " complaint escalation(s)");
+        message.setText(body.toString());
+        message.setFrom("noreply@cms.com");
+        return message;
+    }
+
+    private record DigestItem(
+            String complaintId,
+            int level,
+            String priority,
+            String message,
+            LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,165 @@
+package com.cms.service;
+
+import com.cms.model.Complaint.Priority;
+import jakarta.annotation.PostConstruct;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Escalation Policy Service - Per-priority escalation chains.
+ * 
+ * Each priority has an ordered chain of levels; level n fires once when
+ * the complaint has been breached for the level's delay (measured from the
+ * SLA deadline), notifies the level's recipients and applies its actions.
+ * Every complaint stores when its next level is due (next_escalation_at),
+ * so the SLA scan only reads complaints with a due escalation and a level
+ * never fires twice.
+ * 
+ * Chains come from cms.sla.escalation.chains.<PRIORITY>[n]; priorities
+ * without configuration use the built-in two-level chain.
+ * 
+ * Example:
+ *   cms.sla.escalation.chains.CRITICAL[0].delay=0m
+ *   cms.sla.escalation.chains.CRITICAL[0].recipients=oncall@cms.com
+ *   cms.sla.escalation.chains.CRITICAL[0].actions=NOTIFY_ASSIGNEE,MARK_ESCALATED
+ *   cms.sla.escalation.chains.CRITICAL[1].delay=30m
+ *   cms.sla.escalation.chains.CRITICAL[1].recipients=manager@cms.com,admin@cms.com
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EscalationPolicyService {
+
+    private final Environment environment;
+
+    // Built-in second-level delay after breach, indexed by priority ordinal
+    private static final Duration[] DEFAULT_SECOND_LEVEL_DELAY = {
+            Duration.ofHours(24), Duration.ofHours(8), Duration.ofHours(2), Duration.ofMinutes(30) };
+
+    private static final Bindable<Map<Priority, List<StepDefinition>>> CHAINS_BINDABLE = Bindable.of(
+            ResolvableType.forClassWithGenerics(Map.class,
+                    ResolvableType.forClass(Priority.class),
+                    ResolvableType.forClassWithGenerics(List.class, StepDefinition.class)));
+
+    private volatile EnumMap<Priority, EscalationStep[]> chains = defaultChains();
+
+    /**
+     * The step after the given level, or null once the chain is exhausted.
+     */
+    public EscalationStep nextStep(Priority priority, int currentLevel) {
+        EscalationStep[] chain = chains.get(priority);
+        return currentLevel < chain.length ? chain[currentLevel] : null;
+    }
+
+    /**
+     * When the step after the given level is due, or null once the chain is exhausted.
+     */
+    public LocalDateTime nextDueAt(Priority priority, int currentLevel, LocalDateTime slaDeadline) {
+        EscalationStep step = nextStep(priority, currentLevel);
+        return step != null ? slaDeadline.plus(step.delay()) : null;
+    }
+
+    /**
+     * Current chains, for display.
+     */
+    public Map<Priority, List<EscalationStep>> getChains() {
+        Map<Priority, List<EscalationStep>> view = new EnumMap<>(Priority.class);
+        chains.forEach((priority, chain) -> view.put(priority, List.of(chain)));
+        return view;
+    }
+
+    /**
+     * Load chains from configuration, before any SLA scan can run.
+     */
+    @PostConstruct
+    public void reload() {
+        Map<Priority, List<StepDefinition>> definitions = Binder.get(environment)
+                .bind("cms.sla.escalation.chains", CHAINS_BINDABLE)
+                .orElse(Map.of());
+
+        EnumMap<Priority, EscalationStep[]> compiled = defaultChains();
+        definitions.forEach((priority, steps) -> compiled.put(priority, compile(priority, steps)));
+        chains = compiled;
+        log.info("Escalation chains loaded: {}", describe(compiled));
+    }
+
+    // Levels are numbered from 1 in chain order; delays must not decrease
+    private static EscalationStep[] compile(Priority priority, List<StepDefinition> definitions) {
+        EscalationStep[] chain = new EscalationStep[definitions.size()];
+        Duration previous = Duration.ZERO;
+        for (int i = 0; i < chain.length; i++) {
+            StepDefinition definition = definitions.get(i);
+            Duration delay = definition.getDelay() != null ? definition.getDelay() : Duration.ZERO;
+            if (delay.isNegative() || delay.compareTo(previous) < 0) {
+                throw new IllegalStateException("Escalation delays for " + priority +
+                        " must be non-negative and non-decreasing (level " + (i + 1) + ")");
+            }
+            chain[i] = new EscalationStep(i + 1, delay, List.copyOf(definition.getRecipients()),
+                    definition.getActions().isEmpty()
+                            ? EnumSet.noneOf(EscalationAction.class)
+                            : EnumSet.copyOf(definition.getActions()));
+            previous = delay;
+        }
+        return chain;
+    }
+
+    private static EnumMap<Priority, EscalationStep[]> defaultChains() {
+        EnumMap<Priority, EscalationStep[]> defaults = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            defaults.put(priority, new EscalationStep[] {
+                    new EscalationStep(1, Duration.ZERO, List.of("manager@cms.com"),
+                            EnumSet.of(EscalationAction.NOTIFY_ASSIGNEE, EscalationAction.MARK_ESCALATED)),
+                    new EscalationStep(2, DEFAULT_SECOND_LEVEL_DELAY[priority.ordinal()],
+                            List.of("manager@cms.com", "admin@cms.com"),
+                            EnumSet.of(EscalationAction.NOTIFY_ASSIGNEE))
+            });
+        }
+        return defaults;
+    }
+
+    private static String describe(EnumMap<Priority, EscalationStep[]> chains) {
+        StringBuilder description = new StringBuilder();
+        chains.forEach((priority, chain) -> {
+            description.append(priority).append('=');
+            for (EscalationStep step : chain) {
+                description.append(step.delay().toMinutes()).append("m ");
+            }
+        });
+        return description.toString().trim();
+    }
+
+    public enum EscalationAction {
+        NOTIFY_ASSIGNEE, MARK_ESCALATED
+    }
+
+    /**
+     * Bound from cms.sla.escalation.chains.<PRIORITY>[n].
+     */
+    @Data
+    public static class StepDefinition {
+        private Duration delay;
+        private List<String> recipients = new ArrayList<>();
+        private List<EscalationAction> actions = new ArrayList<>();
+    }
+
+    // One compiled level of a chain
+    public record EscalationStep(
+            int level,
+            Duration delay,
+            List<String> recipients,
+            Set<EscalationAction> actions) {
+    }
+}
@@ -90,6 +90,45 @@ public class GamificationService {
         return new PointsAwarded(basePoints, bonusPoints, totalPoints, newBadges);
     }
 
+    /**
+     * Award points for many resolutions by one staff member at once.
+     * Loads and saves the staff member a single time (used by bulk status updates).
+     */
+    @Transactional
+    public PointsAwarded awardPointsForResolutions(String staffId, Collection<Resolution> resolutions) {
+        User staff = userRepository.findById(staffId)
+                .orElseThrow(() -> new RuntimeException("Staff not found"));
+
+        int basePoints = 0;
+        int bonusPoints = 0;
+        boolean anyWithinSLA = false;
+        for (Resolution resolution : resolutions) {
+            basePoints += switch (resolution.priority()) {
+                case CRITICAL -> POINTS_RESOLVE_CRITICAL;
+                case HIGH -> POINTS_RESOLVE_HIGH;
+                case MEDIUM -> POINTS_RESOLVE_MEDIUM;
+                case LOW -> POINTS_RESOLVE_LOW;
+            };
+            if (resolution.withinSLA()) {
+                bonusPoints += POINTS_WITHIN_SLA_BONUS;
+                anyWithinSLA = true;
+            }
+        }
+        int totalPoints = basePoints + bonusPoints;
+
+        staff.setTotalPoints(staff.getTotalPoints() + totalPoints);
+        staff.setComplaintsResolved(staff.getComplaintsResolved() + resolutions.size());
+
+        List<String> newBadges = checkAndAwardBadges(staff, anyWithinSLA);
+
+        userRepository.save(staff);
+
+        log.info("Awarded {} points to staff {} for resolving {} complaints",
+                totalPoints, staffId, resolutions.size());
+
+        return new PointsAwarded(basePoints, bonusPoints, totalPoints, newBadges);
+    }
+
     /**
      * Award points for receiving a customer rating.
      */
@@ -239,6 +278,9 @@ public class GamificationService {
     }
 
     // Record types for results
+    public record Resolution(Priority priority, boolean withinSLA) {
+    }
+
     public record PointsAwarded(int basePoints, int bonusPoints, int totalPoints, List<String> newBadges) {
     }
 
@@ -0,0 +1,95 @@
+package com.cms.service;
+
+import com.cms.service.NotificationTemplateService.RenderedMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Mail Dispatcher - Sends prepared emails off the caller's thread.
+ * 
+ * Messages are fully built by NotificationService inside the caller's
+ * transaction, so no entity is touched on the notification thread.
+ * Asynchronous sends wait for one of cms.notifications.smtp-concurrency
+ * permits on the notification thread, never on the caller's.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MailDispatcher {
+
+    private final JavaMailSender mailSender;
+
+    @Value("${cms.notifications.smtp-concurrency:8}")
+    private int smtpConcurrency;
+
+    private Semaphore smtpPermits;
+
+    @PostConstruct
+    public void init() {
+        smtpPermits = new Semaphore(smtpConcurrency);
+    }
+
+    /**
+     * Send a rendered message on the notification executor, as
+     * multipart/alternative (plain text and HTML) when it has an HTML body.
+     */
+    @Async("notificationExecutor")
+    public void send(String to, String from, RenderedMessage message) {
+        try {
+            smtpPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted before sending email to {}", to);
+            return;
+        }
+        try {
+            if (message.html() == null) {
+                SimpleMailMessage plain = new SimpleMailMessage();
+                plain.setTo(to);
+                plain.setFrom(from);
+                plain.setSubject(message.subject());
+                plain.setText(message.text());
+                mailSender.send(plain);
+            } else {
+                MimeMessage mime = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(mime, true, StandardCharsets.UTF_8.name());
+                helper.setTo(to);
+                helper.setFrom(from);
+                helper.setSubject(message.subject());
+                helper.setText(message.text(), message.html());
+                mailSender.send(mime);
+            }
+            log.info("Email sent to {} with subject: {}", to, message.subject());
+
+        } catch (Exception e) {
+            log.error("Failed to send email to {}: {}", to, e.getMessage());
+            // In production, could retry or queue for later
+        } finally {
+            smtpPermits.release();
+        }
+    }
+
+    /**
+     * Send a prepared message on the caller's thread, propagating failures
+     * so the caller can keep the message for a retry.
+     */
+    public void deliver(SimpleMailMessage message) {
+        mailSender.send(message);
+        log.info("Email sent to {} with subject: {}",
+                String.join(", ", message.getTo()), message.getSubject());
+    }
+}
@@ -2,16 +2,21 @@ package com.cms.service;
 
 import com.cms.model.Complaint;
 import com.cms.model.User;
+import com.cms.service.NotificationTemplateService.RenderedMessage;
+import com.cms.service.NotificationTemplateService.Template;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Locale;
+
 /**
  * Notification Service - Handles all system notifications.
  * 
  * Sends email alerts, SLA warnings, and status updates.
+ * Messages are rendered from NotificationTemplateService in the
+ * recipient's locale, as plain text plus HTML where a template has one.
  * Can be extended to support SMS, push notifications, etc.
  * 
  * @author CMS Development Team
@@ -22,139 +27,93 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class NotificationService {
 
-    private final JavaMailSender mailSender;
+    private static final String FROM_ADDRESS = "noreply@cms.com";
+
+    private final MailDispatcher mailDispatcher;
+    private final EscalationDigestService digestService;
+    private final NotificationTemplateService templateService;
 
     /**
      * Send SLA warning notification.
      */
-    public void sendSLAWarning(Complaint complaint, String message) {
-        log.warn("SLA Warning for {}: {}", complaint.getId(), message);
+    public void sendSLAWarning(Complaint complaint, long minutesRemaining) {
+        log.warn("SLA Warning for {}: {} minutes remaining", complaint.getId(), minutesRemaining);
 
         // Notify assigned staff
-        if (complaint.getAssignedStaff() != null) {
-            sendEmail(
-                    complaint.getAssignedStaff().getEmail(),
-                    "SLA Warning - Complaint " + complaint.getId(),
-                    message);
+        User staff = complaint.getAssignedStaff();
+        if (staff != null) {
+            sendEmail(staff.getEmail(), templateService.render(Template.SLA_WARNING, localeOf(staff),
+                    complaint.getId(), minutesRemaining, complaint.getPriority()));
         }
 
         // Could also send to managers, create in-app notifications, etc.
     }
 
     /**
-     * Send SLA breach notification.
+     * Send an escalation notice for one level of the escalation chain.
      */
-    public void sendSLABreach(Complaint complaint, String message) {
-        log.error("SLA Breach for {}: {}", complaint.getId(), message);
-
-        // Notify staff and managers
-        if (complaint.getAssignedStaff() != null) {
-            sendEmail(
-                    complaint.getAssignedStaff().getEmail(),
-                    "URGENT: SLA Breach - Complaint " + complaint.getId(),
-                    message);
+    public void sendEscalation(Complaint complaint, int level, List<String> recipients, boolean notifyAssignee) {
+        log.error("SLA Breach for {}: priority {}, escalation level {}",
+                complaint.getId(), complaint.getPriority(), level);
+
+        // Notify assigned staff
+        User staff = complaint.getAssignedStaff();
+        if (notifyAssignee && staff != null) {
+            sendEmail(staff.getEmail(), templateService.render(Template.SLA_BREACH, localeOf(staff),
+                    complaint.getId(), complaint.getPriority(), level));
+        }
+
+        if (recipients.isEmpty()) {
+            return;
         }
 
-        // Send to admin/manager escalation list
-        sendToEscalationList(complaint, message);
+        // Notify the recipients configured for this level, batched into digests
+        RenderedMessage notice = templateService.render(Template.SLA_BREACH, templateService.getDefaultLocale(),
+                complaint.getId(), complaint.getPriority(), level);
+        for (String email : recipients) {
+            if (digestService.isEnabled()) {
+                digestService.enqueue(email, complaint, level, notice.text().strip());
+            } else {
+                sendEmail(email, notice);
+            }
+        }
     }
 
     /**
      * Send complaint status update to customer.
      */
     public void sendStatusUpdate(Complaint complaint, String newStatus) {
-        String message = String.format(
-                "Your complaint %s has been updated.\n\n" +
-                        "New Status: %s\n" +
-                        "Title: %s\n\n" +
-                        "Track your complaint at: https://cms.example.com/track/%s",
-                complaint.getId(),
-                newStatus,
-                complaint.getTitle(),
-                complaint.getId());
-
-        sendEmail(
-                complaint.getCustomer().getEmail(),
-                "Complaint Update - " + complaint.getId(),
-                message);
+        User customer = complaint.getCustomer();
+        sendEmail(customer.getEmail(), templateService.render(Template.STATUS_UPDATE, localeOf(customer),
+                complaint.getId(), newStatus, complaint.getTitle()));
     }
 
     /**
      * Send new complaint confirmation to customer.
      */
     public void sendComplaintConfirmation(Complaint complaint) {
-        String message = String.format(
-                "Thank you for submitting your complaint.\n\n" +
-                        "Complaint ID: %s\n" +
-                        "Title: %s\n" +
-                        "Priority: %s\n" +
-                        "SLA Deadline: %s\n\n" +
-                        "You can track your complaint at: https://cms.example.com/track/%s",
-                complaint.getId(),
-                complaint.getTitle(),
-                complaint.getPriority(),
-                complaint.getSlaDeadline(),
-                complaint.getId());
-
-        sendEmail(
-                complaint.getCustomer().getEmail(),
-                "Complaint Received - " + complaint.getId(),
-                message);
+        User customer = complaint.getCustomer();
+        sendEmail(customer.getEmail(), templateService.render(Template.COMPLAINT_CONFIRMATION, localeOf(customer),
+                complaint.getId(), complaint.getTitle(), complaint.getPriority(), complaint.getSlaDeadline()));
     }
 
     /**
      * Notify staff of new assignment.
      */
     public void sendAssignmentNotification(Complaint complaint, User staff) {
-        String message = String.format(
-                "You have been assigned a new complaint.\n\n" +
-                        "Complaint ID: %s\n" +
-                        "Title: %s\n" +
-                        "Priority: %s\n" +
-                        "Customer: %s\n" +
-                        "SLA Deadline: %s\n\n" +
-                        "Please review and begin resolution.",
-                complaint.getId(),
-                complaint.getTitle(),
-                complaint.getPriority(),
-                complaint.getCustomer().getName(),
-                complaint.getSlaDeadline());
-
-        sendEmail(
-                staff.getEmail(),
-                "New Assignment - Complaint " + complaint.getId(),
-                message);
+        sendEmail(staff.getEmail(), templateService.render(Template.ASSIGNMENT, localeOf(staff),
+                complaint.getId(), complaint.getTitle(), complaint.getPriority(),
+                complaint.getCustomer().getName(), complaint.getSlaDeadline()));
     }
 
-    /**
-     * Send to escalation list (managers, admins).
-     */
-    private void sendToEscalationList(Complaint complaint, String message) {
-        // In production, fetch from config or database
-        String[] escalationEmails = { "manager@cms.com", "admin@cms.com" };
-
-        for (String email : escalationEmails) {
-            sendEmail(email, "ESCALATION: Complaint " + complaint.getId(), message);
-        }
+    private Locale localeOf(User user) {
+        return user.getLocale() != null ? Locale.forLanguageTag(user.getLocale()) : templateService.getDefaultLocale();
     }
 
     /**
-     * Send email using JavaMailSender.
+     * Hand a rendered email to the MailDispatcher.
      */
-    private void sendEmail(String to, String subject, String body) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(body);
-            message.setFrom("noreply@cms.com");
-
-            mailSender.send(message);
-            log.info("Email sent to {} with subject: {}", to, subject);
-
-        } catch (Exception e) {
-            log.error("Failed to send email to {}: {}", to, e.getMessage());
-            // In production, could retry or queue for later
-        }
+    private void sendEmail(String to, RenderedMessage message) {
+        mailDispatcher.send(to, FROM_ADDRESS, message);
     }
 }
@@ -0,0 +1,285 @@
+package com.cms.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Notification Template Service - Precompiled, localized email templates.
+ * 
+ * Templates live on the classpath as notifications/<name>[_<locale>].txt
+ * (first line subject, then a blank line, then the plain-text body) with
+ * an optional notifications/<name>[_<locale>].html body. Placeholders are
+ * written {{variable}} and must be one of the template's declared
+ * variables. Each (template, locale) pair is parsed once into literal
+ * segments plus variable slots, so rendering is a loop of appends into a
+ * pooled StringBuilder with no format-string parsing.
+ * 
+ * Every template is compiled for the default locale at startup; other
+ * locales are compiled on first use.
+ * 
+ * Locale fallback follows ResourceBundle (de_AT -> de -> default file),
+ * then the default locale. Values are HTML-escaped in HTML bodies and
+ * dates are formatted in the resolved locale.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class NotificationTemplateService {
+
+    @Value("${cms.notification.templates.location:notifications/}")
+    private String location;
+
+    @Value("${cms.notification.default-locale:en}")
+    private Locale defaultLocale;
+
+    // Builders larger than this are dropped instead of pooled
+    private static final int MAX_POOLED_CAPACITY = 16 * 1024;
+
+    private static final ResourceBundle.Control LOCALE_CANDIDATES =
+            ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT);
+
+    private final Map<Template, Map<Locale, CompiledMessage>> compiled = new EnumMap<>(Template.class);
+    private final ArrayBlockingQueue<StringBuilder> builders = new ArrayBlockingQueue<>(64);
+
+    public NotificationTemplateService() {
+        for (Template template : Template.values()) {
+            compiled.put(template, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Compile every template for the default locale, so a missing file or an
+     * unknown placeholder fails the boot instead of the first notification.
+     */
+    @PostConstruct
+    public void precompile() {
+        for (Template template : Template.values()) {
+            compiled.get(template).put(defaultLocale, compile(template, defaultLocale));
+        }
+        log.info("Compiled {} notification templates for {}", Template.values().length, defaultLocale);
+    }
+
+    public Locale getDefaultLocale() {
+        return defaultLocale;
+    }
+
+    /**
+     * Render a template for a locale. Values are given in the order of the
+     * template's declared variables.
+     */
+    public RenderedMessage render(Template template, Locale locale, Object... values) {
+        if (values.length != template.variables.length) {
+            throw new IllegalArgumentException("Template " + template.fileName + " expects variables "
+                    + Arrays.toString(template.variables) + " but got " + values.length + " values");
+        }
+
+        CompiledMessage message = compiled.get(template).computeIfAbsent(
+                locale != null ? locale : defaultLocale, requested -> compile(template, requested));
+
+        StringBuilder out = borrow();
+        try {
+            String subject = message.subject().render(values, message.dateFormat(), out);
+            String text = message.text().render(values, message.dateFormat(), out);
+            String html = message.html() != null ? message.html().render(values, message.dateFormat(), out) : null;
+            return new RenderedMessage(subject, text, html);
+        } finally {
+            release(out);
+        }
+    }
+
+    // Resolve the most specific file for the locale and compile it
+    private CompiledMessage compile(Template template, Locale requested) {
+        List<Locale> candidates = new ArrayList<>(LOCALE_CANDIDATES.getCandidateLocales("", requested));
+        for (Locale fallback : LOCALE_CANDIDATES.getCandidateLocales("", defaultLocale)) {
+            if (!candidates.contains(fallback)) {
+                candidates.add(candidates.size() - 1, fallback);
+            }
+        }
+
+        for (Locale candidate : candidates) {
+            String base = location + template.fileName + (candidate.equals(Locale.ROOT) ? "" : "_" + candidate);
+            String source = read(base + ".txt");
+            if (source == null) {
+                continue;
+            }
+
+            int split = source.indexOf('\n');
+            if (split < 0) {
+                throw new IllegalStateException("Template " + base + ".txt has no body");
+            }
+            String body = source.substring(split + 1);
+            if (body.startsWith("\n")) {
+                body = body.substring(1);
+            }
+            String htmlSource = read(base + ".html");
+
+            Locale resolved = candidate.equals(Locale.ROOT) ? defaultLocale : candidate;
+            log.debug("Compiled notification template {} for {} from {}", template.fileName, requested, base);
+            return new CompiledMessage(
+                    CompiledTemplate.parse(template, base, source.substring(0, split).strip(), false),
+                    CompiledTemplate.parse(template, base, body, false),
+                    htmlSource != null ? CompiledTemplate.parse(template, base, htmlSource, true) : null,
+                    DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.SHORT)
+                            .withLocale(resolved));
+        }
+        throw new IllegalStateException("No notification template " + location + template.fileName + ".txt");
+    }
+
+    private static String read(String path) {
+        ClassPathResource resource = new ClassPathResource(path);
+        if (!resource.exists()) {
+            return null;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).replace("\r\n", "\n");
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read notification template " + path, e);
+        }
+    }
+
+    private StringBuilder borrow() {
+        StringBuilder builder = builders.poll();
+        return builder != null ? builder : new StringBuilder(1024);
+    }
+
+    private void release(StringBuilder builder) {
+        if (builder.capacity() <= MAX_POOLED_CAPACITY) {
+            builder.setLength(0);
+            builders.offer(builder);
+        }
+    }
+
+    /**
+     * Notification templates and their variables, in render order.
+     */
+    public enum Template {
+        COMPLAINT_CONFIRMATION("complaint-confirmation", "id", "title", "priority", "slaDeadline"),
+        STATUS_UPDATE("status-update", "id", "status", "title"),
+        ASSIGNMENT("assignment", "id", "title", "priority", "customer", "slaDeadline"),
+        SLA_WARNING("sla-warning", "id", "minutesRemaining", "priority"),
+        SLA_BREACH("sla-breach", "id", "priority", "level");
+
+        private final String fileName;
+        private final String[] variables;
+
+        Template(String fileName, String... variables) {
+            this.fileName = fileName;
+            this.variables = variables;
+        }
+
+        int indexOf(String variable) {
+            for (int i = 0; i < variables.length; i++) {
+                if (variables[i].equals(variable)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    // Rendered subject and bodies; html is null for plain-text only templates
+    public record RenderedMessage(String subject, String text, String html) {
+    }
+
+    private record CompiledMessage(
+            CompiledTemplate subject,
+            CompiledTemplate text,
+            CompiledTemplate html,
+            DateTimeFormatter dateFormat) {
+    }
+
+    /**
+     * One parsed template: segments[i] is the literal text before slot i,
+     * slots[i] the variable index rendered there, and the last segment
+     * the text after the final slot.
+     */
+    private static final class CompiledTemplate {
+        private final String[] segments;
+        private final int[] slots;
+        private final boolean html;
+
+        private CompiledTemplate(String[] segments, int[] slots, boolean html) {
+            this.segments = segments;
+            this.slots = slots;
+            this.html = html;
+        }
+
+        static CompiledTemplate parse(Template template, String path, String source, boolean html) {
+            List<String> segments = new ArrayList<>();
+            List<Integer> slots = new ArrayList<>();
+            int position = 0;
+            while (true) {
+                int open = source.indexOf("{{", position);
+                if (open < 0) {
+                    break;
+                }
+                int close = source.indexOf("}}", open + 2);
+                if (close < 0) {
+                    throw new IllegalStateException("Unclosed placeholder in " + path);
+                }
+                String variable = source.substring(open + 2, close).strip();
+                int index = template.indexOf(variable);
+                if (index < 0) {
+                    throw new IllegalStateException("Unknown placeholder {{" + variable + "}} in " + path);
+                }
+                segments.add(source.substring(position, open));
+                slots.add(index);
+                position = close + 2;
+            }
+            segments.add(source.substring(position));
+            return new CompiledTemplate(segments.toArray(String[]::new),
+                    slots.stream().mapToInt(Integer::intValue).toArray(), html);
+        }
+
+        String render(Object[] values, DateTimeFormatter dateFormat, StringBuilder out) {
+            out.setLength(0);
+            for (int i = 0; i < slots.length; i++) {
+                out.append(segments[i]);
+                appendValue(values[slots[i]], dateFormat, out);
+            }
+            out.append(segments[slots.length]);
+            return out.toString();
+        }
+
+        private void appendValue(Object value, DateTimeFormatter dateFormat, StringBuilder out) {
+            if (value == null) {
+                return;
+            }
+            if (value instanceof TemporalAccessor temporal) {
+                dateFormat.formatTo(temporal, out);
+                return;
+            }
+            CharSequence text = value instanceof CharSequence sequence ? sequence : String.valueOf(value);
+            if (!html) {
+                out.append(text);
+                return;
+            }
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '<' -> out.append("&lt;");
+                    case '>' -> out.append("&gt;");
+                    case '&' -> out.append("&amp;");
+                    case '"' -> out.append("&quot;");
+                    case '\'' -> out.append("&#39;");
+                    default -> out.append(c);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.cms.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Request Coalescer - Single-flight execution of expensive reads.
+ * 
+ * Concurrent calls with the same operation and key share one in-flight
+ * computation: the first caller computes, later callers wait for its
+ * result (or its exception) instead of running identical queries. Nothing
+ * is cached once the computation finishes. Call it outside any transaction,
+ * so waiting callers do not hold database connections.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Service
+@Slf4j
+public class RequestCoalescer {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Run the supplier, or join an identical computation already in flight.
+     *
+     * @param operation logical operation name, used for metrics
+     * @param key       arguments that make two calls identical
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> supplier) {
+        String flightKey = operation + "|" + Objects.toString(key, "");
+        Counters stats = counters.computeIfAbsent(operation, k -> new Counters());
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, mine);
+        if (existing != null) {
+            stats.coalesced.incrementAndGet();
+            return (T) await(existing);
+        }
+
+        stats.executions.incrementAndGet();
+        try {
+            T result = supplier.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    /**
+     * Executions and coalesced calls per operation since startup.
+     */
+    public Map<String, CoalescingStats> getStatistics() {
+        Map<String, CoalescingStats> result = new TreeMap<>();
+        counters.forEach((operation, c) ->
+                result.put(operation, new CoalescingStats(c.executions.get(), c.coalesced.get())));
+        return result;
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Counters {
+        final AtomicLong executions = new AtomicLong();
+        final AtomicLong coalesced = new AtomicLong();
+    }
+
+    public record CoalescingStats(long executions, long coalesced) {
+    }
+}
@@ -2,7 +2,11 @@ package com.cms.service;
 
 import com.cms.model.Complaint;
 import com.cms.model.Complaint.*;
+import com.cms.model.ComplaintEvent;
+import com.cms.model.ComplaintEvent.EventType;
 import com.cms.repository.ComplaintRepository;
+import com.cms.service.EscalationPolicyService.EscalationAction;
+import com.cms.service.EscalationPolicyService.EscalationStep;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,13 +15,17 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * SLA Service - Service Level Agreement monitoring and enforcement.
  * 
- * Calculates SLA deadlines based on priority, monitors for breaches,
- * handles escalations, and sends notifications.
+ * Calculates SLA deadlines from the SLA policy, monitors for breaches,
+ * runs the escalation chains of EscalationPolicyService, and sends
+ * notifications.
  * 
  * @author CMS Development Team
  * @version 1.0
@@ -29,34 +37,42 @@ public class SLAService {
 
     private final ComplaintRepository complaintRepository;
     private final NotificationService notificationService;
-
-    // SLA deadlines by priority (in hours)
-    private static final int SLA_CRITICAL = 2; // 2 hours
-    private static final int SLA_HIGH = 24; // 24 hours (1 day)
-    private static final int SLA_MEDIUM = 72; // 72 hours (3 days)
-    private static final int SLA_LOW = 168; // 168 hours (7 days)
+    private final ComplaintEventService eventService;
+    private final ComplaintFeedService feedService;
+    private final SlaPolicyService policyService;
+    private final BusinessCalendarService calendarService;
+    private final SlaShardCoordinator shardCoordinator;
+    private final EscalationPolicyService escalationPolicy;
 
     // Warning threshold (percentage of SLA time before warning)
     private static final double WARNING_THRESHOLD = 0.75;
 
     /**
-     * Calculate SLA deadline based on complaint priority.
+     * Calculate SLA deadline from the compiled SLA policy
+     * (priority, category, sentiment and customer history), counted in
+     * working time of the team calendar for the category.
      */
-    public LocalDateTime calculateSLADeadline(Priority priority) {
-        int hours = switch (priority) {
-            case CRITICAL -> SLA_CRITICAL;
-            case HIGH -> SLA_HIGH;
-            case MEDIUM -> SLA_MEDIUM;
-            case LOW -> SLA_LOW;
-        };
-
-        LocalDateTime deadline = LocalDateTime.now().plusHours(hours);
-        log.debug("Calculated SLA deadline for {} priority: {}", priority, deadline);
+    public LocalDateTime calculateSLADeadline(Priority priority, Category category, Sentiment sentiment,
+            CustomerTier customerTier) {
+        return calculateSLADeadline(priority, category, sentiment, customerTier, LocalDateTime.now());
+    }
+
+    /**
+     * Same deadline, counted from the given start (e.g. the creation of a
+     * complaint whose labels were corrected).
+     */
+    public LocalDateTime calculateSLADeadline(Priority priority, Category category, Sentiment sentiment,
+            CustomerTier customerTier, LocalDateTime start) {
+        int minutes = policyService.resolutionMinutes(priority, category, sentiment, customerTier);
+
+        LocalDateTime deadline = calendarService.addWorkingMinutes(category, priority, start, minutes);
+        log.debug("Calculated SLA deadline for {}/{}/{}/{}: {}", priority, category, sentiment, customerTier, deadline);
         return deadline;
     }
 
     /**
      * Check if a complaint's SLA is near breach.
+     * Elapsed and total SLA time are measured in working time.
      */
     public boolean isSLANearBreach(Complaint complaint) {
         if (isTerminalStatus(complaint.getStatus())) {
@@ -68,8 +84,10 @@ public class SLAService {
         LocalDateTime createdAt = complaint.getCreatedAt();
 
         // Calculate total SLA duration and elapsed time
-        long totalMinutes = Duration.between(createdAt, deadline).toMinutes();
-        long elapsedMinutes = Duration.between(createdAt, now).toMinutes();
+        Category category = complaint.getCategory();
+        Priority priority = complaint.getPriority();
+        long totalMinutes = calendarService.workingMinutesBetween(category, priority, createdAt, deadline);
+        long elapsedMinutes = calendarService.workingMinutesBetween(category, priority, createdAt, now);
 
         double percentageElapsed = (double) elapsedMinutes / totalMinutes;
 
@@ -103,29 +121,37 @@ public class SLAService {
     /**
      * Scheduled task to check SLA deadlines every 5 minutes.
      * Identifies near-breach and breached complaints for escalation.
+     * Only scans the shards this node currently holds a lease on, so in a
+     * cluster every complaint is checked by exactly one node.
      */
     @Scheduled(fixedRate = 300000) // Every 5 minutes
     @Transactional
     public void checkSLADeadlines() {
-        log.info("Running SLA deadline check...");
+        Set<Integer> shards = shardCoordinator.getOwnedShards();
+        if (shards.isEmpty()) {
+            log.info("No SLA shards owned by this node, skipping SLA check");
+            return;
+        }
+        log.info("Running SLA deadline check on {} shards...", shards.size());
 
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime warningWindow = now.plusHours(2);
 
         // Find complaints nearing SLA breach
-        List<Complaint> nearingBreach = complaintRepository.findComplaintsNearingSLA(now, warningWindow);
+        List<Complaint> nearingBreach = complaintRepository.findComplaintsNearingSLAInShards(
+                now, warningWindow, shards);
         for (Complaint complaint : nearingBreach) {
             handleNearingBreach(complaint);
         }
 
-        // Find complaints that have breached SLA
-        List<Complaint> breached = complaintRepository.findBreachedSLAComplaints(now);
-        for (Complaint complaint : breached) {
-            handleSLABreach(complaint);
+        // Find breached complaints whose next escalation level is due
+        List<Complaint> due = complaintRepository.findDueEscalationsInShards(now, shards);
+        for (Complaint complaint : due) {
+            handleDueEscalation(complaint, now);
         }
 
-        log.info("SLA check complete. {} nearing breach, {} breached.",
-                nearingBreach.size(), breached.size());
+        log.info("SLA check complete. {} nearing breach, {} escalations due.",
+                nearingBreach.size(), due.size());
     }
 
     /**
@@ -135,41 +161,68 @@ public class SLAService {
         Duration remaining = getTimeUntilBreach(complaint);
 
         // Send warning notification
-        String message = String.format(
-                "SLA Warning: Complaint %s has only %d minutes remaining before breach. Priority: %s",
-                complaint.getId(),
-                remaining.toMinutes(),
-                complaint.getPriority());
-
-        notificationService.sendSLAWarning(complaint, message);
+        notificationService.sendSLAWarning(complaint, remaining.toMinutes());
+        feedService.publishSLAWarning(complaint);
         log.warn("SLA warning sent for complaint {}", complaint.getId());
     }
 
     /**
-     * Handle an SLA breach - escalate the complaint.
+     * Handle a complaint whose next escalation level is due.
+     * If the next level's delay has not elapsed yet (deadline moved, chain
+     * changed) the complaint is only rescheduled. When several levels are
+     * overdue (downtime, migration) only the highest one fires, with the
+     * actions and recipients of the skipped levels, so everyone on the
+     * chain is told once and nobody gets a burst of escalations.
+     * Applied as a conditional update on the status and level this scan
+     * observed, so an agent resolving the complaint concurrently is never
+     * overwritten; the loaded entity is left untouched to avoid a
+     * stale-version flush.
      */
     @Transactional
-    protected void handleSLABreach(Complaint complaint) {
-        // Escalate the complaint
-        complaint.setEscalationLevel(complaint.getEscalationLevel() + 1);
+    protected void handleDueEscalation(Complaint complaint, LocalDateTime now) {
+        int currentLevel = complaint.getEscalationLevel() != null ? complaint.getEscalationLevel() : 0;
+        Priority priority = complaint.getPriority();
+        LocalDateTime deadline = complaint.getSlaDeadline();
+
+        LocalDateTime dueAt = escalationPolicy.nextDueAt(priority, currentLevel, deadline);
+        if (dueAt == null || dueAt.isAfter(now)) {
+            complaintRepository.rescheduleEscalation(complaint.getId(), currentLevel, dueAt);
+            return;
+        }
+
+        EscalationStep step = escalationPolicy.nextStep(priority, currentLevel);
+        Set<EscalationAction> actions = EnumSet.noneOf(EscalationAction.class);
+        actions.addAll(step.actions());
+        Set<String> recipients = new LinkedHashSet<>(step.recipients());
+        LocalDateTime nextAt = escalationPolicy.nextDueAt(priority, step.level(), deadline);
+        while (nextAt != null && !nextAt.isAfter(now)) {
+            step = escalationPolicy.nextStep(priority, step.level());
+            actions.addAll(step.actions());
+            recipients.addAll(step.recipients());
+            nextAt = escalationPolicy.nextDueAt(priority, step.level(), deadline);
+        }
 
-        if (complaint.getStatus() != ComplaintStatus.ESCALATED) {
-            complaint.setStatus(ComplaintStatus.ESCALATED);
+        ComplaintStatus newStatus = actions.contains(EscalationAction.MARK_ESCALATED)
+                ? ComplaintStatus.ESCALATED : complaint.getStatus();
+        int updated = complaintRepository.escalateIfUnchanged(complaint.getId(), complaint.getStatus(),
+                currentLevel, step.level(), newStatus, nextAt, now);
+        if (updated == 0) {
+            log.info("Complaint {} changed during SLA check, escalation skipped", complaint.getId());
+            return;
         }
 
-        complaintRepository.save(complaint);
+        ComplaintEvent event = eventService.newEvent(EventType.ESCALATED, complaint, complaint.getStatus(),
+                newStatus,
+                complaint.getAssignedStaff() != null ? complaint.getAssignedStaff().getId() : null, now);
+        event.setEscalationLevel(step.level());
+        event.setSlaBreach(currentLevel == 0);
+        eventService.record(event);
 
         // Send breach notification
-        String message = String.format(
-                "SLA BREACHED: Complaint %s has exceeded its SLA deadline. " +
-                        "Priority: %s, Escalation Level: %d",
-                complaint.getId(),
-                complaint.getPriority(),
-                complaint.getEscalationLevel());
-
-        notificationService.sendSLABreach(complaint, message);
-        log.error("SLA breached for complaint {}. Escalated to level {}",
-                complaint.getId(), complaint.getEscalationLevel());
+        notificationService.sendEscalation(complaint, step.level(), List.copyOf(recipients),
+                actions.contains(EscalationAction.NOTIFY_ASSIGNEE));
+        log.error("SLA breached for complaint {}. Escalated to level {}{}",
+                complaint.getId(), step.level(), nextAt != null ? ", next level due " + nextAt : "");
     }
 
     /**
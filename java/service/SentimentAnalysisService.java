@@ -2,9 +2,12 @@ package com.cms.service;
 
 import com.cms.model.Complaint.Sentiment;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
 /**
@@ -14,6 +17,11 @@ import java.util.regex.Pattern;
  * Uses keyword-based analysis with weighted scoring.
  * Can be extended to use ML models (TensorFlow, OpenNLP, etc.)
  * 
+ * Results are cached by a 64-bit hash of the normalized text and the
+ * lexicon version, because bot-generated and copy-pasted descriptions
+ * repeat heavily. The cache is an LRU bounded by estimated bytes and
+ * split into lock-striped segments so intake threads rarely contend.
+ * 
  * @author CMS Development Team
  * @version 1.0
  */
@@ -36,7 +44,6 @@ public class SentimentAnalysisService {
             Map.entry("useless", -2),
             Map.entry("scam", -3),
             Map.entry("fraud", -3),
-            Map.entry("lawsuit", -3),
             Map.entry("lawsuit", -3));
 
     private static final Map<String, Integer> FRUSTRATED_KEYWORDS = Map.ofEntries(
@@ -77,6 +84,23 @@ public class SentimentAnalysisService {
             "not", "never", "no", "don't", "doesn't", "didn't", "won't",
             "can't", "couldn't", "shouldn't", "wouldn't");
 
+    // Changes whenever the dictionaries change, so cached results never outlive their lexicon
+    private static final long LEXICON_VERSION = Objects.hash(
+            ANGRY_KEYWORDS, FRUSTRATED_KEYWORDS, POSITIVE_KEYWORDS, INTENSIFIERS, NEGATORS);
+
+    private static final int CACHE_SEGMENTS = 16;
+
+    @Value("${cms.sentiment.cache-enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${cms.sentiment.cache-max-bytes:16777216}")
+    private long cacheMaxBytes;
+
+    private final CacheSegment[] cacheSegments = buildSegments();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder cacheEvictions = new LongAdder();
+
     /**
      * Analyze the sentiment of given text.
      * Returns ANGRY, FRUSTRATED, NEUTRAL, or SATISFIED.
@@ -86,6 +110,12 @@ public class SentimentAnalysisService {
             return Sentiment.NEUTRAL;
         }
 
+        long key = cacheKey(text);
+        CachedSentiment cached = cacheGet(key, false);
+        if (cached != null) {
+            return cached.sentiment();
+        }
+
         String normalizedText = normalizeText(text);
         int score = calculateSentimentScore(normalizedText);
         Sentiment sentiment = scoreToSentiment(score);
@@ -93,6 +123,7 @@ public class SentimentAnalysisService {
         log.debug("Sentiment analysis - Text: '{}...', Score: {}, Sentiment: {}",
                 text.substring(0, Math.min(50, text.length())), score, sentiment);
 
+        cachePut(key, new CachedSentiment(sentiment, null));
         return sentiment;
     }
 
@@ -100,14 +131,119 @@ public class SentimentAnalysisService {
      * Get detailed sentiment analysis with breakdown.
      */
     public SentimentAnalysisResult analyzeDetailed(String text) {
+        long key = cacheKey(text);
+        CachedSentiment cached = cacheGet(key, true);
+        if (cached != null && cached.detailed() != null) {
+            return cached.detailed();
+        }
+
         String normalizedText = normalizeText(text);
         int score = calculateSentimentScore(normalizedText);
         Sentiment sentiment = scoreToSentiment(score);
 
-        List<String> detectedKeywords = findMatchedKeywords(normalizedText);
+        List<String> detectedKeywords = List.copyOf(findMatchedKeywords(normalizedText));
         double confidence = calculateConfidence(score, detectedKeywords.size());
 
-        return new SentimentAnalysisResult(sentiment, score, confidence, detectedKeywords);
+        SentimentAnalysisResult result = new SentimentAnalysisResult(sentiment, score, confidence, detectedKeywords);
+        cachePut(key, new CachedSentiment(sentiment, result));
+        return result;
+    }
+
+    /**
+     * Hit, miss and eviction counts plus current size of the result cache.
+     */
+    public SentimentCacheStatistics getCacheStatistics() {
+        long entries = 0;
+        long bytes = 0;
+        for (CacheSegment segment : cacheSegments) {
+            segment.lock.lock();
+            try {
+                entries += segment.entries.size();
+                bytes += segment.bytes;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        long hits = cacheHits.sum();
+        long misses = cacheMisses.sum();
+        double hitRate = hits + misses > 0 ? (double) hits / (hits + misses) : 0.0;
+        return new SentimentCacheStatistics(hits, misses, hitRate, cacheEvictions.sum(), entries, bytes);
+    }
+
+    // 64-bit FNV-1a over the same normalization as normalizeText, in one pass without allocating
+    private long cacheKey(String text) {
+        long hash = 0xcbf29ce484222325L ^ LEXICON_VERSION;
+        boolean pendingSpace = false;
+        boolean started = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            boolean kept = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '\'';
+            if (!kept) {
+                pendingSpace = started;
+                continue;
+            }
+            if (pendingSpace) {
+                hash = (hash ^ ' ') * 0x100000001b3L;
+                pendingSpace = false;
+            }
+            hash = (hash ^ c) * 0x100000001b3L;
+            started = true;
+        }
+        return hash;
+    }
+
+    // An entry without a breakdown counts as a miss when the breakdown is needed
+    private CachedSentiment cacheGet(long key, boolean needsDetail) {
+        if (!cacheEnabled) {
+            return null;
+        }
+        CacheSegment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            CachedSentiment cached = segment.entries.get(key);
+            if (cached != null && (!needsDetail || cached.detailed() != null)) {
+                cacheHits.increment();
+            } else {
+                cacheMisses.increment();
+            }
+            return cached;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    private void cachePut(long key, CachedSentiment value) {
+        if (!cacheEnabled) {
+            return;
+        }
+        long segmentLimit = cacheMaxBytes / CACHE_SEGMENTS;
+        CacheSegment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            CachedSentiment previous = segment.entries.put(key, value);
+            segment.bytes += value.estimatedBytes() - (previous != null ? previous.estimatedBytes() : 0);
+
+            Iterator<CachedSentiment> eldest = segment.entries.values().iterator();
+            while (segment.bytes > segmentLimit && eldest.hasNext()) {
+                segment.bytes -= eldest.next().estimatedBytes();
+                eldest.remove();
+                cacheEvictions.increment();
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    private CacheSegment segmentFor(long key) {
+        return cacheSegments[(int) (key ^ (key >>> 32)) & (CACHE_SEGMENTS - 1)];
+    }
+
+    private static CacheSegment[] buildSegments() {
+        CacheSegment[] segments = new CacheSegment[CACHE_SEGMENTS];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new CacheSegment();
+        }
+        return segments;
     }
 
     private String normalizeText(String text) {
@@ -196,6 +332,39 @@ public class SentimentAnalysisService {
         return baseConfidence;
     }
 
+    /**
+     * One lock-striped LRU segment of the result cache.
+     */
+    private static final class CacheSegment {
+        final ReentrantLock lock = new ReentrantLock();
+        final LinkedHashMap<Long, CachedSentiment> entries = new LinkedHashMap<>(256, 0.75f, true);
+        long bytes;
+    }
+
+    // Cached sentiment, plus the detailed breakdown once someone asked for it
+    private record CachedSentiment(Sentiment sentiment, SentimentAnalysisResult detailed) {
+        // Map node, boxed key and this record; keyword strings when a breakdown is present
+        long estimatedBytes() {
+            long bytes = 96;
+            if (detailed != null) {
+                bytes += 64;
+                for (String keyword : detailed.matchedKeywords()) {
+                    bytes += 48 + keyword.length();
+                }
+            }
+            return bytes;
+        }
+    }
+
+    public record SentimentCacheStatistics(
+            long hits,
+            long misses,
+            double hitRate,
+            long evictions,
+            long entries,
+            long estimatedBytes) {
+    }
+
     // Result record for detailed analysis
     public record SentimentAnalysisResult(
             Sentiment sentiment,
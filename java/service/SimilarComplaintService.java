@@ -0,0 +1,469 @@
+package com.cms.service;
+
+import com.cms.model.Complaint.ComplaintStatus;
+import com.cms.model.ComplaintEvent;
+import com.cms.repository.ComplaintRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Similar Complaint Service - "How was this fixed before?" lookup.
+ * 
+ * Keeps a TF-IDF index over the title and description of resolved
+ * complaints and answers top-k cosine queries for any complaint, so staff
+ * can read the resolution notes of the closest past cases.
+ * 
+ * Vectors are sparse (a few dozen hashed terms per complaint), so the
+ * index is an inverted file rather than a graph: each hashed term owns a
+ * primitive posting list of (document, weight) pairs, and a query
+ * accumulates dot products over the posting lists of its own terms only,
+ * into a dense score array taken from a small pool.
+ * Two approximations bound the work: each document keeps only its
+ * highest-weighted terms, and terms present in a large fraction of
+ * documents are skipped at query time. All postings live in int[] and
+ * float[] arrays, so the index adds almost no objects for the GC to trace.
+ * 
+ * Newly resolved complaints are queued after commit and added in batches
+ * every few seconds, one text query per batch; IDF is tracked
+ * incrementally and the index is rebuilt nightly to re-weight everything.
+ * Additions made while a rebuild streams are journaled and replayed onto
+ * the rebuilt index before it is swapped in.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SimilarComplaintService {
+
+    private final ComplaintRepository complaintRepository;
+
+    // Terms kept per resolved complaint
+    @Value("${cms.similar.terms-per-document:32}")
+    private int termsPerDocument;
+
+    // Terms found in more than this fraction of documents are ignored in queries
+    @Value("${cms.similar.max-document-frequency:0.2}")
+    private double maxDocumentFrequency;
+
+    // Resolved complaints whose text is read per indexing query
+    private static final int INDEX_BATCH = 500;
+
+    private static final int TERM_BITS = 18;
+    private static final int TERMS = 1 << TERM_BITS;
+
+    private volatile Index index = new Index();
+
+    // Complaints resolved since the last indexing pass
+    private final Queue<String> pendingIds = new ConcurrentLinkedQueue<>();
+
+    // Query scratch space, reused across queries and index swaps; queries beyond
+    // the pool size allocate their own and drop it, so retained memory stays bounded
+    private final ArrayBlockingQueue<Accumulator> accumulators = new ArrayBlockingQueue<>(8);
+
+    private final ReentrantLock mutationLock = new ReentrantLock();
+
+    // Additions made during a running rebuild, replayed onto its result; null when idle
+    private List<Addition> rebuildJournal;
+
+    /**
+     * The k resolved complaints most similar to the given one, best first.
+     */
+    @Transactional(readOnly = true)
+    public List<SimilarComplaint> findSimilar(String complaintId, int k) {
+        List<Object[]> rows = complaintRepository.findTextById(complaintId);
+        if (rows.isEmpty()) {
+            throw new RuntimeException("Complaint not found: " + complaintId);
+        }
+        Object[] text = rows.get(0);
+
+        Index current = index;
+        Accumulator accumulator = accumulators.poll();
+        List<Match> matches;
+        try {
+            if (accumulator == null) {
+                accumulator = new Accumulator();
+            }
+            matches = current.query(termCounts((String) text[0], (String) text[1]),
+                    complaintId, k, maxDocumentFrequency, accumulator);
+        } finally {
+            accumulators.offer(accumulator);
+        }
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Object[]> details = new HashMap<>();
+        for (Object[] row : complaintRepository.findResolutionsByIds(
+                matches.stream().map(Match::complaintId).toList())) {
+            details.put((String) row[0], row);
+        }
+
+        List<SimilarComplaint> result = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            Object[] row = details.get(match.complaintId());
+            if (row != null) {
+                result.add(new SimilarComplaint(match.complaintId(), (String) row[1], (String) row[2],
+                        (LocalDateTime) row[3], match.score()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Queue complaints for indexing as they are resolved.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onComplaintEvent(ComplaintEvent event) {
+        if (event.getToStatus() == ComplaintStatus.RESOLVED) {
+            pendingIds.add(event.getComplaintId());
+        }
+    }
+
+    /**
+     * Index the queued complaints, reading their text in batches.
+     */
+    @Scheduled(fixedDelayString = "${cms.similar.index-delay-ms:5000}")
+    @Transactional(readOnly = true)
+    public void indexPending() {
+        List<String> batch = new ArrayList<>(INDEX_BATCH);
+        String id;
+        while ((id = pendingIds.poll()) != null) {
+            batch.add(id);
+            if (batch.size() == INDEX_BATCH) {
+                indexBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            indexBatch(batch);
+        }
+    }
+
+    private void indexBatch(List<String> ids) {
+        for (Object[] row : complaintRepository.findTextByIds(ids)) {
+            Addition addition = new Addition((String) row[0], termCounts((String) row[1], (String) row[2]));
+            mutationLock.lock();
+            try {
+                addition.applyTo(index, termsPerDocument);
+                if (rebuildJournal != null) {
+                    rebuildJournal.add(addition);
+                }
+            } finally {
+                mutationLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Rebuild the index from all resolved and closed complaints.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${cms.similar.rebuild-cron:0 0 4 * * *}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        mutationLock.lock();
+        try {
+            rebuildJournal = new ArrayList<>();
+        } finally {
+            mutationLock.unlock();
+        }
+
+        try {
+            // Two passes: document frequencies first, so every vector is weighted with the final IDF
+            Index rebuilt = new Index();
+            try (Stream<Object[]> rows = complaintRepository.streamResolvedText()) {
+                rows.forEach(row -> rebuilt.countDocument(termCounts((String) row[1], (String) row[2])));
+            }
+            try (Stream<Object[]> rows = complaintRepository.streamResolvedText()) {
+                rows.forEach(row -> rebuilt.addCounted((String) row[0],
+                        termCounts((String) row[1], (String) row[2]), termsPerDocument));
+            }
+
+            // Complaints indexed while streaming may have committed after the rebuild's snapshot
+            mutationLock.lock();
+            try {
+                for (Addition addition : rebuildJournal) {
+                    addition.applyTo(rebuilt, termsPerDocument);
+                }
+                index = rebuilt;
+                log.info("Similar-complaint index rebuilt with {} resolved complaints ({} replayed additions)",
+                        rebuilt.size(), rebuildJournal.size());
+            } finally {
+                mutationLock.unlock();
+            }
+        } finally {
+            mutationLock.lock();
+            try {
+                rebuildJournal = null;
+            } finally {
+                mutationLock.unlock();
+            }
+        }
+    }
+
+    // Hashed term -> count, as parallel arrays sorted by term
+    private static TermCounts termCounts(String title, String description) {
+        String text = (title == null ? "" : title) + " " + (description == null ? "" : description);
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() > 1) {
+                counts.merge(term(token.hashCode()), 1, Integer::sum);
+            }
+        }
+
+        int[] terms = new int[counts.size()];
+        int[] tf = new int[counts.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : new TreeMap<>(counts).entrySet()) {
+            terms[i] = entry.getKey();
+            tf[i++] = entry.getValue();
+        }
+        return new TermCounts(terms, tf);
+    }
+
+    private static int term(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return hash & (TERMS - 1);
+    }
+
+    private record TermCounts(int[] terms, int[] tf) {
+    }
+
+    private record Match(String complaintId, float score) {
+    }
+
+    // A complaint added to the live index; add() skips ids already indexed
+    private record Addition(String complaintId, TermCounts counts) {
+        void applyTo(Index target, int maxTerms) {
+            target.add(complaintId, counts, maxTerms);
+        }
+    }
+
+    /**
+     * Dense score array indexed by document number plus the list of documents
+     * it holds scores for; the query zeroes touched entries as it reads them.
+     */
+    private static final class Accumulator {
+        private float[] scores = new float[0];
+        private int[] touched = new int[256];
+        private int touchedCount;
+
+        void reset(int documents) {
+            // Clear what an interrupted query may have left behind
+            for (int t = 0; t < touchedCount; t++) {
+                scores[touched[t]] = 0f;
+            }
+            if (scores.length < documents) {
+                scores = new float[Math.max(documents, scores.length * 2)];
+            }
+            touchedCount = 0;
+        }
+
+        void touch(int doc) {
+            if (touchedCount == touched.length) {
+                touched = Arrays.copyOf(touched, touchedCount * 2);
+            }
+            touched[touchedCount++] = doc;
+        }
+    }
+
+    /**
+     * Inverted index: per-term posting lists of document numbers and weights.
+     */
+    private static final class Index {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private final int[] documentFrequency = new int[TERMS];
+        private final int[][] postingDocs = new int[TERMS][];
+        private final float[][] postingWeights = new float[TERMS][];
+        private final int[] postingLengths = new int[TERMS];
+
+        private final Map<String, Integer> docById = new HashMap<>();
+        private String[] ids = new String[1024];
+        private int nextDoc;
+        private int documentCount; // for IDF; ahead of nextDoc during a rebuild
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return nextDoc;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // First rebuild pass: document frequencies only
+        void countDocument(TermCounts counts) {
+            for (int term : counts.terms()) {
+                documentFrequency[term]++;
+            }
+            documentCount++;
+        }
+
+        // Second rebuild pass: frequencies already counted
+        void addCounted(String id, TermCounts counts, int maxTerms) {
+            lock.writeLock().lock();
+            try {
+                insert(id, counts, maxTerms);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void add(String id, TermCounts counts, int maxTerms) {
+            lock.writeLock().lock();
+            try {
+                if (docById.containsKey(id)) {
+                    return;
+                }
+                for (int term : counts.terms()) {
+                    documentFrequency[term]++;
+                }
+                documentCount++;
+                insert(id, counts, maxTerms);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Match> query(TermCounts counts, String excludeId, int k, double maxDocumentFrequency,
+                Accumulator accumulator) {
+            lock.readLock().lock();
+            try {
+                if (nextDoc == 0) {
+                    return List.of();
+                }
+
+                float[] weights = weigh(counts);
+                accumulator.reset(nextDoc);
+                float[] scores = accumulator.scores;
+                int dfLimit = (int) Math.max(2, documentCount * maxDocumentFrequency);
+
+                int[] terms = counts.terms();
+                for (int i = 0; i < terms.length; i++) {
+                    int term = terms[i];
+                    if (documentFrequency[term] > dfLimit || postingLengths[term] == 0) {
+                        continue;
+                    }
+                    int[] docs = postingDocs[term];
+                    float[] postingWeight = postingWeights[term];
+                    for (int p = 0; p < postingLengths[term]; p++) {
+                        int doc = docs[p];
+                        if (scores[doc] == 0f) {
+                            accumulator.touch(doc);
+                        }
+                        scores[doc] += weights[i] * postingWeight[p];
+                    }
+                }
+
+                Integer excluded = docById.get(excludeId);
+                PriorityQueue<Match> top = new PriorityQueue<>(Comparator.comparingDouble(Match::score));
+                for (int t = 0; t < accumulator.touchedCount; t++) {
+                    int doc = accumulator.touched[t];
+                    float score = scores[doc];
+                    scores[doc] = 0f;
+                    if (excluded != null && doc == excluded) {
+                        continue;
+                    }
+                    if (top.size() < k) {
+                        top.add(new Match(ids[doc], score));
+                    } else if (score > top.peek().score()) {
+                        top.poll();
+                        top.add(new Match(ids[doc], score));
+                    }
+                }
+                accumulator.touchedCount = 0;
+
+                List<Match> result = new ArrayList<>(top);
+                result.sort(Comparator.comparingDouble(Match::score).reversed());
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void insert(String id, TermCounts counts, int maxTerms) {
+            int doc = nextDoc++;
+            if (doc >= ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+            ids[doc] = id;
+            docById.put(id, doc);
+
+            float[] weights = weigh(counts);
+            int[] terms = counts.terms();
+
+            // Keep only the strongest terms of long documents
+            Integer[] order = new Integer[terms.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Float.compare(weights[b], weights[a]));
+
+            for (int n = 0; n < Math.min(maxTerms, order.length); n++) {
+                int i = order[n];
+                int term = terms[i];
+                int length = postingLengths[term];
+                if (postingDocs[term] == null) {
+                    postingDocs[term] = new int[4];
+                    postingWeights[term] = new float[4];
+                } else if (length == postingDocs[term].length) {
+                    postingDocs[term] = Arrays.copyOf(postingDocs[term], length * 2);
+                    postingWeights[term] = Arrays.copyOf(postingWeights[term], length * 2);
+                }
+                postingDocs[term][length] = doc;
+                postingWeights[term][length] = weights[i];
+                postingLengths[term] = length + 1;
+            }
+        }
+
+        // L2-normalized (1 + log tf) * idf weights
+        private float[] weigh(TermCounts counts) {
+            int[] terms = counts.terms();
+            int[] tf = counts.tf();
+            float[] weights = new float[terms.length];
+            double norm = 0;
+            for (int i = 0; i < terms.length; i++) {
+                double idf = Math.log((documentCount + 1.0) / (documentFrequency[terms[i]] + 1.0)) + 1.0;
+                double weight = (1.0 + Math.log(tf[i])) * idf;
+                weights[i] = (float) weight;
+                norm += weight * weight;
+            }
+            if (norm > 0) {
+                float scale = (float) (1.0 / Math.sqrt(norm));
+                for (int i = 0; i < weights.length; i++) {
+                    weights[i] *= scale;
+                }
+            }
+            return weights;
+        }
+    }
+
+    public record SimilarComplaint(
+            String complaintId,
+            String title,
+            String resolutionNotes,
+            LocalDateTime updatedAt,
+            float score) {
+    }
+}
@@ -0,0 +1,264 @@
+package com.cms.service;
+
+import com.cms.dto.SlaPolicyRuleDTO;
+import com.cms.model.Complaint.*;
+import com.cms.model.SlaPolicyRule;
+import com.cms.repository.ComplaintRepository;
+import com.cms.repository.SlaPolicyRuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * SLA Policy Service - Compiles SLA policy rules into a resolution-time table.
+ * 
+ * The resolution time of a complaint depends on its priority, category,
+ * sentiment and the customer's recent history. Rules are compiled once per
+ * load into a flat int[] of minutes indexed by those four dimensions, so
+ * the create path does a single array read and no rule matching. Other
+ * nodes pick up rule changes on the next periodic reload.
+ * 
+ * Replacing the policy recalculates the deadline of every open complaint
+ * whose table cell changed, in working time from its creation, with
+ * batched updates. The change is diffed against the stored rules under an
+ * advisory lock, so concurrent replacements on different nodes serialize.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SlaPolicyService {
+
+    private final SlaPolicyRuleRepository ruleRepository;
+    private final ComplaintRepository complaintRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final BusinessCalendarService calendarService;
+
+    // Complaints within the history window that make a customer a repeat complainer
+    @Value("${cms.sla.repeat-customer-threshold:3}")
+    private int repeatCustomerThreshold;
+
+    @Value("${cms.sla.customer-history-days:90}")
+    private int customerHistoryDays;
+
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final Category[] CATEGORIES = Category.values();
+    private static final Sentiment[] SENTIMENTS = Sentiment.values();
+    private static final CustomerTier[] TIERS = CustomerTier.values();
+
+    // Base resolution hours when no rule sets one, indexed by Priority ordinal
+    private static final int[] DEFAULT_BASE_HOURS = { 168, 72, 24, 2 }; // LOW, MEDIUM, HIGH, CRITICAL
+
+    // No rule combination may shrink a deadline below this
+    private static final int MIN_MINUTES = 15;
+
+    private static final int RECALCULATION_BATCH_SIZE = 500;
+
+    // Transaction-scoped advisory lock serializing policy replacements across nodes
+    private static final long POLICY_LOCK_KEY = 0x534c41L; // "SLA"
+
+    private volatile int[] minutesTable = compile(List.of());
+
+    /**
+     * Resolution time in minutes for a complaint with these attributes.
+     */
+    public int resolutionMinutes(Priority priority, Category category, Sentiment sentiment, CustomerTier tier) {
+        return minutesTable[cell(priority, category, sentiment, tier)];
+    }
+
+    /**
+     * Classify a customer by their complaints within the history window.
+     */
+    @Transactional(readOnly = true)
+    public CustomerTier customerTier(String customerId) {
+        long recent = complaintRepository.countByCustomerIdAndCreatedAtAfter(
+                customerId, LocalDateTime.now().minusDays(customerHistoryDays));
+        if (recent == 0) {
+            return CustomerTier.FIRST_TIME;
+        }
+        return recent >= repeatCustomerThreshold ? CustomerTier.REPEAT : CustomerTier.REGULAR;
+    }
+
+    /**
+     * Recompile the table from the stored rules.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedRateString = "${cms.sla.policy-reload-ms:60000}", initialDelayString = "${cms.sla.policy-reload-ms:60000}")
+    @Transactional(readOnly = true)
+    public void reload() {
+        minutesTable = compile(ruleRepository.findAll());
+    }
+
+    @Transactional(readOnly = true)
+    public List<SlaPolicyRuleDTO> getRules() {
+        return ruleRepository.findAll().stream().map(this::toDTO).toList();
+    }
+
+    /**
+     * Replace the whole policy and recalculate deadlines of open complaints it affects.
+     */
+    @Transactional
+    public PolicyUpdateResult replaceRules(List<SlaPolicyRuleDTO> requested) {
+        List<SlaPolicyRule> rules = requested.stream().map(this::toEntity).toList();
+
+        // Diff against the stored policy, not this node's table, which may lag another node's change
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", POLICY_LOCK_KEY);
+        int[] previous = compile(ruleRepository.findAll());
+
+        ruleRepository.deleteAllInBatch();
+        List<SlaPolicyRule> saved = ruleRepository.saveAll(rules);
+
+        int[] updated = compile(saved);
+        int recalculated = recalculateDeadlines(previous, updated);
+        minutesTable = updated;
+
+        log.info("SLA policy replaced with {} rules; {} open complaints recalculated", saved.size(), recalculated);
+        return new PolicyUpdateResult(saved.stream().map(this::toDTO).toList(), recalculated);
+    }
+
+    // deadline = created_at + new working minutes, for open complaints in changed cells only
+    private int recalculateDeadlines(int[] previous, int[] updated) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(RECALCULATION_BATCH_SIZE);
+        int recalculated = 0;
+
+        try (Stream<Object[]> rows = complaintRepository.streamOpenSlaInputs()) {
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                Priority priority = (Priority) row[2];
+                Category category = (Category) row[3];
+                int cell = cell(priority, category, (Sentiment) row[4], (CustomerTier) row[5]);
+                if (previous[cell] == updated[cell]) {
+                    continue;
+                }
+
+                LocalDateTime deadline = calendarService.addWorkingMinutes(
+                        category, priority, (LocalDateTime) row[1], updated[cell]);
+                // The SLA scan re-derives the next unfired escalation level from the new deadline
+                Timestamp deadlineTs = Timestamp.valueOf(deadline);
+                batch.add(new Object[] { deadlineTs, deadlineTs, Timestamp.valueOf(now), row[0] });
+                if (batch.size() == RECALCULATION_BATCH_SIZE) {
+                    recalculated += flushDeadlines(batch);
+                }
+            }
+        }
+        return recalculated + flushDeadlines(batch);
+    }
+
+    private int flushDeadlines(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(
+                "UPDATE complaints SET sla_deadline = ?, next_escalation_at = ?, updated_at = ?, " +
+                        "version = version + 1 " +
+                        "WHERE id = ? AND status NOT IN ('RESOLVED', 'CLOSED')", batch)) {
+            updated += Math.max(count, 0);
+        }
+        batch.clear();
+        return updated;
+    }
+
+    /**
+     * Evaluate every rule against every cell once. Base hours come from the
+     * most specific matching rule that sets them; all matching multipliers apply.
+     */
+    private static int[] compile(List<SlaPolicyRule> rules) {
+        List<SlaPolicyRule> ordered = new ArrayList<>(rules);
+        ordered.sort(Comparator.comparingInt(SlaPolicyService::specificity));
+
+        int[] table = new int[PRIORITIES.length * CATEGORIES.length * SENTIMENTS.length * TIERS.length];
+        for (Priority p : PRIORITIES) {
+            for (Category c : CATEGORIES) {
+                for (Sentiment s : SENTIMENTS) {
+                    for (CustomerTier t : TIERS) {
+                        double hours = DEFAULT_BASE_HOURS[p.ordinal()];
+                        double factor = 1.0;
+                        for (SlaPolicyRule rule : ordered) {
+                            if (matches(rule, p, c, s, t)) {
+                                if (rule.getBaseHours() != null) {
+                                    hours = rule.getBaseHours();
+                                }
+                                factor *= rule.getMultiplier();
+                            }
+                        }
+                        table[cell(p, c, s, t)] = (int) Math.max(MIN_MINUTES, Math.round(hours * 60 * factor));
+                    }
+                }
+            }
+        }
+        return table;
+    }
+
+    private static boolean matches(SlaPolicyRule rule, Priority p, Category c, Sentiment s, CustomerTier t) {
+        return (rule.getPriority() == null || rule.getPriority() == p)
+                && (rule.getCategory() == null || rule.getCategory() == c)
+                && (rule.getSentiment() == null || rule.getSentiment() == s)
+                && (rule.getCustomerTier() == null || rule.getCustomerTier() == t);
+    }
+
+    private static int specificity(SlaPolicyRule rule) {
+        return (rule.getPriority() != null ? 1 : 0) + (rule.getCategory() != null ? 1 : 0)
+                + (rule.getSentiment() != null ? 1 : 0) + (rule.getCustomerTier() != null ? 1 : 0);
+    }
+
+    private static int cell(Priority p, Category c, Sentiment s, CustomerTier t) {
+        Sentiment sentiment = s != null ? s : Sentiment.NEUTRAL;
+        CustomerTier tier = t != null ? t : CustomerTier.REGULAR;
+        return ((p.ordinal() * CATEGORIES.length + c.ordinal()) * SENTIMENTS.length + sentiment.ordinal())
+                * TIERS.length + tier.ordinal();
+    }
+
+    private SlaPolicyRule toEntity(SlaPolicyRuleDTO dto) {
+        if (dto.getMultiplier() != null && dto.getMultiplier() <= 0) {
+            throw new RuntimeException("SLA rule multiplier must be positive");
+        }
+        if (dto.getBaseHours() != null && dto.getBaseHours() <= 0) {
+            throw new RuntimeException("SLA rule base hours must be positive");
+        }
+        return SlaPolicyRule.builder()
+                .priority(dto.getPriority() != null ? Priority.valueOf(dto.getPriority().toUpperCase()) : null)
+                .category(dto.getCategory() != null ? Category.valueOf(dto.getCategory().toUpperCase()) : null)
+                .sentiment(dto.getSentiment() != null ? Sentiment.valueOf(dto.getSentiment().toUpperCase()) : null)
+                .customerTier(dto.getCustomerTier() != null
+                        ? CustomerTier.valueOf(dto.getCustomerTier().toUpperCase()) : null)
+                .baseHours(dto.getBaseHours())
+                .multiplier(dto.getMultiplier() != null ? dto.getMultiplier() : 1.0)
+                .description(dto.getDescription())
+                .build();
+    }
+
+    private SlaPolicyRuleDTO toDTO(SlaPolicyRule rule) {
+        return SlaPolicyRuleDTO.builder()
+                .id(rule.getId())
+                .priority(rule.getPriority() != null ? rule.getPriority().name() : null)
+                .category(rule.getCategory() != null ? rule.getCategory().name() : null)
+                .sentiment(rule.getSentiment() != null ? rule.getSentiment().name() : null)
+                .customerTier(rule.getCustomerTier() != null ? rule.getCustomerTier().name() : null)
+                .baseHours(rule.getBaseHours())
+                .multiplier(rule.getMultiplier())
+                .description(rule.getDescription())
+                .build();
+    }
+
+    public record PolicyUpdateResult(List<SlaPolicyRuleDTO> rules, int recalculatedComplaints) {
+    }
+}
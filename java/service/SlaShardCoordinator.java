@@ -0,0 +1,205 @@
+package com.cms.service;
+
+import com.cms.model.Complaint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * SLA Shard Coordinator - Splits the SLA scan across live nodes.
+ * 
+ * Every complaint belongs to one of Complaint.SLA_SHARD_COUNT shards. Each
+ * node heartbeats into cluster_nodes and, from the same list of live
+ * nodes, computes the same rendezvous-hash assignment of shards to nodes;
+ * adding or losing a node moves only that node's share. A node claims its
+ * shards through time-limited leases in sla_shard_leases (claim succeeds
+ * only if the lease is free, expired or already ours), renews them on
+ * every heartbeat and releases shards it should no longer own. Leases of
+ * a dead node expire and are taken over by the nodes that now own them.
+ * 
+ * The SLA scan only touches shards whose lease this node holds, so every
+ * breach is handled by exactly one node and scan work per node shrinks as
+ * nodes are added.
+ * 
+ * @author CMS Development Team
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SlaShardCoordinator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${cms.cluster.enabled:true}")
+    private boolean clusterEnabled;
+
+    @Value("${cms.cluster.node-id:}")
+    private String configuredNodeId;
+
+    // Nodes without a heartbeat for this long are considered dead
+    @Value("${cms.cluster.node-ttl-ms:45000}")
+    private long nodeTtlMillis;
+
+    @Value("${cms.cluster.lease-ms:60000}")
+    private long leaseMillis;
+
+    // Ownership is given up locally this long before the lease ends (clock skew margin)
+    @Value("${cms.cluster.lease-safety-ms:10000}")
+    private long leaseSafetyMillis;
+
+    private String nodeId;
+
+    // Shards whose lease this node holds, and until when it may act on them
+    private volatile Set<Integer> ownedShards = Set.of();
+    private volatile LocalDateTime ownedUntil = LocalDateTime.MIN;
+
+    /**
+     * Shards this node may currently scan. All shards when clustering is off.
+     */
+    public Set<Integer> getOwnedShards() {
+        if (!clusterEnabled) {
+            return allShards();
+        }
+        return LocalDateTime.now().isBefore(ownedUntil) ? ownedShards : Set.of();
+    }
+
+    public String getNodeId() {
+        if (nodeId == null) {
+            nodeId = configuredNodeId.isBlank() ? defaultNodeId() : configuredNodeId;
+        }
+        return nodeId;
+    }
+
+    /**
+     * Heartbeat, recompute the assignment, and claim/renew/release leases.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedRateString = "${cms.cluster.heartbeat-ms:15000}", initialDelayString = "${cms.cluster.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (!clusterEnabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        String me = getNodeId();
+        try {
+            Timestamp nowTs = Timestamp.valueOf(now);
+            if (jdbcTemplate.update("UPDATE cluster_nodes SET heartbeat_at = ? WHERE node_id = ?", nowTs, me) == 0) {
+                jdbcTemplate.update("INSERT INTO cluster_nodes (node_id, heartbeat_at) VALUES (?, ?)", me, nowTs);
+            }
+
+            List<String> liveNodes = jdbcTemplate.queryForList(
+                    "SELECT node_id FROM cluster_nodes WHERE heartbeat_at > ?", String.class,
+                    Timestamp.valueOf(now.minus(Duration.ofMillis(nodeTtlMillis))));
+            if (!liveNodes.contains(me)) {
+                liveNodes.add(me);
+            }
+
+            LocalDateTime leaseUntil = now.plus(Duration.ofMillis(leaseMillis));
+            Timestamp leaseUntilTs = Timestamp.valueOf(leaseUntil);
+            Set<Integer> claimed = new TreeSet<>();
+            for (int shard = 0; shard < Complaint.SLA_SHARD_COUNT; shard++) {
+                if (me.equals(ownerOf(shard, liveNodes))) {
+                    int updated = jdbcTemplate.update(
+                            "UPDATE sla_shard_leases SET owner = ?, lease_until = ? WHERE shard_id = ? " +
+                                    "AND (owner = ? OR owner IS NULL OR lease_until < ?)",
+                            me, leaseUntilTs, shard, me, nowTs);
+                    if (updated == 1) {
+                        claimed.add(shard);
+                    }
+                } else if (ownedShards.contains(shard)) {
+                    release(shard, me);
+                }
+            }
+
+            ownedShards = Collections.unmodifiableSet(claimed);
+            ownedUntil = leaseUntil.minus(Duration.ofMillis(leaseSafetyMillis));
+            log.debug("Node {} owns {} of {} SLA shards ({} live nodes)",
+                    me, claimed.size(), Complaint.SLA_SHARD_COUNT, liveNodes.size());
+
+            // Housekeeping: forget nodes that have been gone for a long time
+            jdbcTemplate.update("DELETE FROM cluster_nodes WHERE heartbeat_at < ?",
+                    Timestamp.valueOf(now.minus(Duration.ofMillis(nodeTtlMillis * 10))));
+        } catch (DataAccessException e) {
+            // Without a successful renewal the current leases simply run out
+            log.warn("SLA shard heartbeat failed for node {}: {}", me, e.getMessage());
+        }
+    }
+
+    /**
+     * Hand shards over immediately on graceful shutdown.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() {
+        if (!clusterEnabled) {
+            return;
+        }
+        String me = getNodeId();
+        ownedShards = Set.of();
+        try {
+            jdbcTemplate.update("UPDATE sla_shard_leases SET owner = NULL, lease_until = NULL WHERE owner = ?", me);
+            jdbcTemplate.update("DELETE FROM cluster_nodes WHERE node_id = ?", me);
+            log.info("Node {} released its SLA shards", me);
+        } catch (DataAccessException e) {
+            log.warn("Could not release SLA shards of node {}: {}", me, e.getMessage());
+        }
+    }
+
+    private void release(int shard, String me) {
+        jdbcTemplate.update("UPDATE sla_shard_leases SET owner = NULL, lease_until = NULL " +
+                "WHERE shard_id = ? AND owner = ?", shard, me);
+    }
+
+    // Rendezvous hashing: the live node with the highest score for the shard owns it
+    static String ownerOf(int shard, List<String> liveNodes) {
+        String owner = null;
+        long best = Long.MIN_VALUE;
+        for (String node : liveNodes) {
+            long score = mix(node.hashCode() * 0x9e3779b97f4a7c15L + shard);
+            if (owner == null || score > best || (score == best && node.compareTo(owner) < 0)) {
+                owner = node;
+                best = score;
+            }
+        }
+        return owner;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static Set<Integer> allShards() {
+        Set<Integer> all = new TreeSet<>();
+        for (int shard = 0; shard < Complaint.SLA_SHARD_COUNT; shard++) {
+            all.add(shard);
+        }
+        return all;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
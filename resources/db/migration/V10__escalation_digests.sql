@@ -0,0 +1,14 @@
+-- Escalation notices waiting for the next digest email of their recipient
+-- (EscalationDigestService). Rows are deleted in the transaction that sends them.
+CREATE TABLE IF NOT EXISTS escalation_digest_items (
+    id           BIGSERIAL    PRIMARY KEY,
+    recipient    VARCHAR(255) NOT NULL,
+    complaint_id VARCHAR(36)  NOT NULL,
+    level        INTEGER      NOT NULL,
+    priority     VARCHAR(20)  NOT NULL,
+    message      TEXT         NOT NULL,
+    created_at   TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_escalation_digest_recipient
+    ON escalation_digest_items (recipient, id);
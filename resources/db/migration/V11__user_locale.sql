@@ -0,0 +1,2 @@
+-- Notification locale per user (NotificationTemplateService); NULL uses the default locale
+ALTER TABLE users ADD COLUMN IF NOT EXISTS locale VARCHAR(35);
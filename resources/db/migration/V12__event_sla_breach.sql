@@ -0,0 +1,15 @@
+-- Marks the first escalation of a complaint (its SLA breach). Escalation
+-- levels can collapse, so the first escalation is not always level 1.
+ALTER TABLE complaint_events ADD COLUMN IF NOT EXISTS sla_breach BOOLEAN NOT NULL DEFAULT false;
+
+-- Backfill: the earliest ESCALATED event of each complaint
+UPDATE complaint_events e SET sla_breach = true
+FROM (
+    SELECT complaint_id, MIN(occurred_at) AS occurred_at
+    FROM complaint_events
+    WHERE type = 'ESCALATED'
+    GROUP BY complaint_id
+) first_escalation
+WHERE e.type = 'ESCALATED'
+  AND e.complaint_id = first_escalation.complaint_id
+  AND e.occurred_at = first_escalation.occurred_at;
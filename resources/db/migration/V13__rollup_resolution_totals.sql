@@ -0,0 +1,49 @@
+-- Resolution and first-response totals in the report buckets, so all-time
+-- resolution metrics are summed from rollups instead of the event log.
+ALTER TABLE complaint_events ADD COLUMN IF NOT EXISTS first_response BOOLEAN NOT NULL DEFAULT false;
+
+ALTER TABLE complaint_rollups ADD COLUMN IF NOT EXISTS resolution_seconds     BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE complaint_rollups ADD COLUMN IF NOT EXISTS resolved_within_sla    BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE complaint_rollups ADD COLUMN IF NOT EXISTS first_responses        BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE complaint_rollups ADD COLUMN IF NOT EXISTS first_response_seconds BIGINT NOT NULL DEFAULT 0;
+
+-- Backfill: the earliest IN_PROGRESS event of each complaint
+UPDATE complaint_events e SET first_response = true
+FROM (
+    SELECT complaint_id, MIN(occurred_at) AS occurred_at
+    FROM complaint_events
+    WHERE to_status = 'IN_PROGRESS'
+    GROUP BY complaint_id
+) first_event
+WHERE e.to_status = 'IN_PROGRESS'
+  AND e.complaint_id = first_event.complaint_id
+  AND e.occurred_at = first_event.occurred_at;
+
+-- Backfill the new totals of existing buckets, hourly and compacted daily
+UPDATE complaint_rollups r SET
+    resolution_seconds = t.resolution_seconds,
+    resolved_within_sla = t.resolved_within_sla,
+    first_responses = t.first_responses,
+    first_response_seconds = t.first_response_seconds
+FROM (
+    SELECT g.granularity,
+           CASE g.granularity WHEN 'HOUR' THEN date_trunc('hour', e.occurred_at)
+                              ELSE date_trunc('day', e.occurred_at) END AS bucket_start,
+           e.category,
+           e.priority,
+           COALESCE(e.sentiment, 'NEUTRAL') AS sentiment,
+           COALESCE(SUM(e.seconds_since_created)
+                    FILTER (WHERE e.type = 'STATUS_CHANGED' AND e.to_status = 'RESOLVED'), 0) AS resolution_seconds,
+           COUNT(*) FILTER (WHERE e.type = 'STATUS_CHANGED' AND e.to_status = 'RESOLVED'
+                            AND e.within_sla) AS resolved_within_sla,
+           COUNT(*) FILTER (WHERE e.first_response) AS first_responses,
+           COALESCE(SUM(e.seconds_since_created) FILTER (WHERE e.first_response), 0) AS first_response_seconds
+    FROM complaint_events e
+    CROSS JOIN (VALUES ('HOUR'), ('DAY')) AS g (granularity)
+    GROUP BY 1, 2, 3, 4, 5
+) t
+WHERE r.granularity = t.granularity
+  AND r.bucket_start = t.bucket_start
+  AND r.category = t.category
+  AND r.priority = t.priority
+  AND r.sentiment = t.sentiment;
@@ -0,0 +1,5 @@
+-- Category and priority confirmed or corrected by staff; the classifier
+-- trains only on these rows.
+ALTER TABLE complaints ADD COLUMN IF NOT EXISTS labels_reviewed BOOLEAN NOT NULL DEFAULT false;
+
+CREATE INDEX IF NOT EXISTS idx_complaint_labels_reviewed ON complaints (labels_reviewed) WHERE labels_reviewed;
@@ -0,0 +1,3 @@
+-- Assignee before the event, so a reassignment reaches the previous
+-- assignee's live feed as well as the new one's.
+ALTER TABLE complaint_events ADD COLUMN IF NOT EXISTS previous_staff_id VARCHAR(255);
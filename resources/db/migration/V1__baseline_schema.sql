@@ -0,0 +1,68 @@
+-- Base schema as mapped by the User, Complaint and Comment entities before
+-- Flyway was introduced.
+-- Everything is IF NOT EXISTS: databases created before Flyway are baselined
+-- at version 0 and run this migration too, which must leave them untouched.
+
+CREATE TABLE IF NOT EXISTS users (
+    id                          VARCHAR(255) PRIMARY KEY,
+    name                        VARCHAR(255) NOT NULL,
+    email                       VARCHAR(255) NOT NULL,
+    password                    VARCHAR(255) NOT NULL,
+    role                        VARCHAR(20)  NOT NULL,
+    avatar_url                  VARCHAR(255),
+    total_points                INTEGER,
+    complaints_resolved         INTEGER,
+    avg_resolution_time_minutes INTEGER,
+    customer_rating             DOUBLE PRECISION,
+    enabled                     BOOLEAN      NOT NULL,
+    account_locked              BOOLEAN,
+    created_at                  TIMESTAMP    NOT NULL,
+    last_login                  TIMESTAMP
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_user_email ON users (email);
+CREATE INDEX IF NOT EXISTS idx_user_role ON users (role);
+
+CREATE TABLE IF NOT EXISTS user_badges (
+    user_id VARCHAR(255) NOT NULL REFERENCES users (id),
+    badge   VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS complaints (
+    id               VARCHAR(255) PRIMARY KEY,
+    title            VARCHAR(255) NOT NULL,
+    description      TEXT         NOT NULL,
+    category         VARCHAR(50)  NOT NULL,
+    priority         VARCHAR(20)  NOT NULL,
+    status           VARCHAR(20)  NOT NULL,
+    sentiment        VARCHAR(20),
+    created_at       TIMESTAMP    NOT NULL,
+    updated_at       TIMESTAMP    NOT NULL,
+    sla_deadline     TIMESTAMP    NOT NULL,
+    customer_id      VARCHAR(255) NOT NULL REFERENCES users (id),
+    assigned_to      VARCHAR(255) REFERENCES users (id),
+    resolution_notes TEXT,
+    escalation_level INTEGER
+);
+
+CREATE INDEX IF NOT EXISTS idx_complaint_status ON complaints (status);
+CREATE INDEX IF NOT EXISTS idx_complaint_priority ON complaints (priority);
+CREATE INDEX IF NOT EXISTS idx_complaint_customer ON complaints (customer_id);
+
+-- Denormalized comment activity (Complaint.commentCount / lastActivityAt).
+-- Added separately so tables that predate the columns get them too.
+ALTER TABLE complaints ADD COLUMN IF NOT EXISTS comment_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE complaints ADD COLUMN IF NOT EXISTS last_activity_at TIMESTAMP;
+UPDATE complaints SET last_activity_at = created_at WHERE last_activity_at IS NULL;
+
+CREATE TABLE IF NOT EXISTS comments (
+    id           VARCHAR(255) PRIMARY KEY,
+    complaint_id VARCHAR(255) NOT NULL REFERENCES complaints (id),
+    user_id      VARCHAR(255) NOT NULL REFERENCES users (id),
+    content      TEXT         NOT NULL,
+    is_internal  BOOLEAN      NOT NULL,
+    created_at   TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_comment_complaint ON comments (complaint_id);
+CREATE INDEX IF NOT EXISTS idx_comment_created ON comments (created_at);
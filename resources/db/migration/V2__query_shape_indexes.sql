@@ -0,0 +1,34 @@
+-- Indexes matching the query shapes of ComplaintRepository and CommentRepository.
+-- The single-column status/customer indexes are superseded by composites that
+-- also serve the ORDER BY created_at of the paged list queries.
+
+-- findByStatus(status) ORDER BY created_at DESC
+CREATE INDEX IF NOT EXISTS idx_complaint_status_created
+    ON complaints (status, created_at DESC);
+DROP INDEX IF EXISTS idx_complaint_status;
+
+-- findByCustomerId(customerId) ORDER BY created_at DESC
+CREATE INDEX IF NOT EXISTS idx_complaint_customer_created
+    ON complaints (customer_id, created_at DESC);
+DROP INDEX IF EXISTS idx_complaint_customer;
+
+-- findByAssignedStaffId(staffId); assigned_to had no index at all
+CREATE INDEX IF NOT EXISTS idx_complaint_assignee_created
+    ON complaints (assigned_to, created_at DESC)
+    WHERE assigned_to IS NOT NULL;
+
+-- findAll ORDER BY created_at DESC, countCreatedBetween, export range scans
+CREATE INDEX IF NOT EXISTS idx_complaint_created
+    ON complaints (created_at);
+
+-- findBreachedSLAComplaints / findComplaintsNearingSLA:
+-- status NOT IN ('RESOLVED', 'CLOSED') AND sla_deadline < / BETWEEN ...
+-- Partial, so only the open backlog is indexed.
+CREATE INDEX IF NOT EXISTS idx_complaint_open_sla
+    ON complaints (sla_deadline)
+    WHERE status NOT IN ('RESOLVED', 'CLOSED');
+
+-- CommentRepository.findThread / findThreadAfter keyset scans
+CREATE INDEX IF NOT EXISTS idx_comment_thread
+    ON comments (complaint_id, created_at, id);
+DROP INDEX IF EXISTS idx_comment_complaint;
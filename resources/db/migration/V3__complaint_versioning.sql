@@ -0,0 +1,2 @@
+-- Optimistic locking for complaints (Complaint.version).
+ALTER TABLE complaints ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,25 @@
+-- Append-only complaint lifecycle log (ComplaintEvent), range-partitioned by month.
+-- Monthly partitions are created ahead of time by ComplaintEventService.ensurePartitions;
+-- the default partition catches anything outside them.
+-- The primary key must include the partition key.
+CREATE TABLE IF NOT EXISTS complaint_events (
+    id                    VARCHAR(255) NOT NULL,
+    complaint_id          VARCHAR(255) NOT NULL,
+    type                  VARCHAR(20)  NOT NULL,
+    from_status           VARCHAR(20),
+    to_status             VARCHAR(20),
+    staff_id              VARCHAR(255),
+    priority              VARCHAR(20)  NOT NULL,
+    category              VARCHAR(50)  NOT NULL,
+    sentiment             VARCHAR(20),
+    escalation_level      INTEGER,
+    seconds_since_created BIGINT       NOT NULL,
+    within_sla            BOOLEAN      NOT NULL,
+    occurred_at           TIMESTAMP    NOT NULL,
+    PRIMARY KEY (id, occurred_at)
+) PARTITION BY RANGE (occurred_at);
+
+CREATE TABLE IF NOT EXISTS complaint_events_default PARTITION OF complaint_events DEFAULT;
+
+CREATE INDEX IF NOT EXISTS idx_event_complaint ON complaint_events (complaint_id, occurred_at);
+CREATE INDEX IF NOT EXISTS idx_event_to_status ON complaint_events (to_status, occurred_at);
@@ -0,0 +1,32 @@
+-- Pre-aggregated report buckets (ComplaintRollup).
+-- HOUR rows are maintained from complaint events; rows older than the
+-- retention window are folded into DAY rows by ComplaintRollupService.compact.
+CREATE TABLE IF NOT EXISTS complaint_rollups (
+    granularity  VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP   NOT NULL,
+    category     VARCHAR(50) NOT NULL,
+    priority     VARCHAR(20) NOT NULL,
+    sentiment    VARCHAR(20) NOT NULL,
+    created      BIGINT      NOT NULL DEFAULT 0,
+    resolved     BIGINT      NOT NULL DEFAULT 0,
+    breached     BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (granularity, bucket_start, category, priority, sentiment)
+);
+
+-- Range scans across granularities
+CREATE INDEX IF NOT EXISTS idx_rollup_bucket ON complaint_rollups (bucket_start);
+
+-- Backfill hourly buckets from the events recorded so far
+INSERT INTO complaint_rollups
+    (granularity, bucket_start, category, priority, sentiment, created, resolved, breached)
+SELECT 'HOUR',
+       date_trunc('hour', occurred_at),
+       category,
+       priority,
+       COALESCE(sentiment, 'NEUTRAL'),
+       COUNT(*) FILTER (WHERE type = 'CREATED'),
+       COUNT(*) FILTER (WHERE type = 'STATUS_CHANGED' AND to_status = 'RESOLVED'),
+       COUNT(*) FILTER (WHERE type = 'ESCALATED' AND escalation_level = 1)
+FROM complaint_events
+GROUP BY date_trunc('hour', occurred_at), category, priority, COALESCE(sentiment, 'NEUTRAL')
+ON CONFLICT DO NOTHING;
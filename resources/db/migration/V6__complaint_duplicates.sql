@@ -0,0 +1,7 @@
+-- Near-duplicate linking at intake (Complaint.duplicateOfId).
+ALTER TABLE complaints ADD COLUMN IF NOT EXISTS duplicate_of_id VARCHAR(36);
+
+-- findByDuplicateOfId: children of a duplicate group. Partial, as most complaints are not duplicates.
+CREATE INDEX IF NOT EXISTS idx_complaint_duplicate_of
+    ON complaints (duplicate_of_id, created_at)
+    WHERE duplicate_of_id IS NOT NULL;
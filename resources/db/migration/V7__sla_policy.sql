@@ -0,0 +1,32 @@
+-- SLA policy rules (SlaPolicyRule), compiled into a lookup table by SlaPolicyService.
+CREATE TABLE IF NOT EXISTS sla_policy_rules (
+    id            BIGSERIAL PRIMARY KEY,
+    priority      VARCHAR(20),
+    category      VARCHAR(50),
+    sentiment     VARCHAR(20),
+    customer_tier VARCHAR(20),
+    base_hours    INTEGER,
+    multiplier    DOUBLE PRECISION NOT NULL DEFAULT 1.0,
+    description   VARCHAR(255)
+);
+
+-- Customer history at intake (Complaint.customerTier), so deadlines can be recalculated
+ALTER TABLE complaints ADD COLUMN IF NOT EXISTS customer_tier VARCHAR(20);
+
+-- Default policy: base hours by priority, tightened for upset customers,
+-- security issues and repeat complainers.
+INSERT INTO sla_policy_rules (priority, base_hours, multiplier, description) VALUES
+    ('CRITICAL', 2,   1.0, 'Critical: 2 hours'),
+    ('HIGH',     24,  1.0, 'High: 1 day'),
+    ('MEDIUM',   72,  1.0, 'Medium: 3 days'),
+    ('LOW',      168, 1.0, 'Low: 7 days');
+
+INSERT INTO sla_policy_rules (sentiment, multiplier, description) VALUES
+    ('ANGRY',      0.5,  'Angry customers: half the time'),
+    ('FRUSTRATED', 0.75, 'Frustrated customers: three quarters of the time');
+
+INSERT INTO sla_policy_rules (category, multiplier, description) VALUES
+    ('SECURITY', 0.5, 'Security issues: half the time');
+
+INSERT INTO sla_policy_rules (customer_tier, multiplier, description) VALUES
+    ('REPEAT', 0.75, 'Customers with several recent complaints');
@@ -0,0 +1,28 @@
+-- Sharded SLA scanning across nodes (SlaShardCoordinator).
+
+-- Shard of each complaint (Complaint.slaShard), random at insert; existing rows hashed.
+ALTER TABLE complaints ADD COLUMN IF NOT EXISTS sla_shard INTEGER;
+UPDATE complaints SET sla_shard = mod(abs(hashtext(id)), 64) WHERE sla_shard IS NULL;
+ALTER TABLE complaints ALTER COLUMN sla_shard SET NOT NULL;
+
+-- Sharded findBreachedSLAComplaints / findComplaintsNearingSLA over the open backlog
+CREATE INDEX IF NOT EXISTS idx_complaint_open_sla_shard
+    ON complaints (sla_shard, sla_deadline)
+    WHERE status NOT IN ('RESOLVED', 'CLOSED');
+
+-- Live application nodes
+CREATE TABLE IF NOT EXISTS cluster_nodes (
+    node_id      VARCHAR(255) PRIMARY KEY,
+    heartbeat_at TIMESTAMP    NOT NULL
+);
+
+-- One lease row per shard; owner NULL when free
+CREATE TABLE IF NOT EXISTS sla_shard_leases (
+    shard_id    INTEGER PRIMARY KEY,
+    owner       VARCHAR(255),
+    lease_until TIMESTAMP
+);
+
+INSERT INTO sla_shard_leases (shard_id)
+SELECT s FROM generate_series(0, 63) AS s
+ON CONFLICT (shard_id) DO NOTHING;
@@ -0,0 +1,13 @@
+-- Escalation chains (EscalationPolicyService): when the next level of each
+-- complaint is due. NULL once its chain is exhausted.
+ALTER TABLE complaints ADD COLUMN IF NOT EXISTS next_escalation_at TIMESTAMP;
+
+-- Open complaints restart at their deadline; the SLA scan moves each one to
+-- its next unfired level on first read.
+UPDATE complaints SET next_escalation_at = sla_deadline
+WHERE status NOT IN ('RESOLVED', 'CLOSED');
+
+-- findDueEscalationsInShards
+CREATE INDEX IF NOT EXISTS idx_complaint_open_next_escalation
+    ON complaints (sla_shard, next_escalation_at)
+    WHERE status NOT IN ('RESOLVED', 'CLOSED') AND next_escalation_at IS NOT NULL;